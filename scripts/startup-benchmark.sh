@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Mide el tiempo de arranque del servicio con y sin las optimizaciones del perfil prod.
+#
+#   ./scripts/startup-benchmark.sh [repeticiones]
+#
+# Construye el jar con -Pprod (código AOT), lo descomprime, genera un archivo CDS y arranca cada variante
+# RUNS veces hasta que el contexto queda refrescado (spring.context.exit=onRefresh). No necesita MongoDB.
+# Resultado: mediana en milisegundos por variante en target/startup/result.json.
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+OUT="$ROOT/target/startup"
+JAVA="${JAVA:-java}"
+
+cd "$ROOT"
+if [[ "${SKIP_BUILD:-false}" != "true" ]]; then
+    ./mvnw -B -q -Pprod clean package -DskipTests
+fi
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+JAR="$(ls target/*.jar | head -1)"
+cp "$JAR" "$OUT/app.jar"
+"$JAVA" -Djarmode=tools -jar "$OUT/app.jar" extract --destination "$OUT/application" >/dev/null
+
+COMMON=(-Dspring.context.exit=onRefresh -Dspring.profiles.active=prod
+        -Dspring.data.mongodb.uri=mongodb://localhost:27017 -Dlogging.level.root=WARN)
+
+"$JAVA" -XX:ArchiveClassesAtExit="$OUT/application/application.jsa" -Dspring.aot.enabled=true "${COMMON[@]}" \
+    -jar "$OUT/application/app.jar" >/dev/null
+
+# Mediana de RUNS arranques, en milisegundos de reloj (incluye el arranque de la JVM)
+measure() {
+    local samples=()
+    for _ in $(seq "$RUNS"); do
+        local start end
+        start=$(date +%s%N)
+        "$JAVA" "$@" >/dev/null
+        end=$(date +%s%N)
+        samples+=($(( (end - start) / 1000000 )))
+    done
+    printf '%s\n' "${samples[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }'
+}
+
+echo "Midiendo $RUNS arranques por variante..."
+JAR_MS=$(measure "${COMMON[@]}" -Dspring.profiles.active=default -Dusers.startup.lazy-docs=false \
+    -jar "$OUT/app.jar")
+PROD_MS=$(measure "${COMMON[@]}" -jar "$OUT/application/app.jar")
+AOT_MS=$(measure -Dspring.aot.enabled=true "${COMMON[@]}" -jar "$OUT/application/app.jar")
+CDS_AOT_MS=$(measure -XX:SharedArchiveFile="$OUT/application/application.jsa" -Dspring.aot.enabled=true \
+    "${COMMON[@]}" -jar "$OUT/application/app.jar")
+
+cat > "$OUT/result.json" <<EOF
+{
+  "runs": $RUNS,
+  "medianMillis": {
+    "plainJar": $JAR_MS,
+    "extractedLazyDocs": $PROD_MS,
+    "extractedLazyDocsAot": $AOT_MS,
+    "extractedLazyDocsAotCds": $CDS_AOT_MS
+  }
+}
+EOF
+cat "$OUT/result.json"
@@ -0,0 +1,75 @@
+package pe.edu.vallegrande.vgmsusersmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserSummary;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de serializar con Jackson las respuestas de los endpoints de consulta, con la misma configuración de
+ * ObjectMapper que usa Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({ "10", "1000" })
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+
+    private ApiResponse<List<User>> listResponse;
+
+    private ApiResponse<User> singleResponse;
+
+    private ApiResponse<List<UserSummary>> summaryListResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listResponse = ApiResponse.success("Usuarios obtenidos exitosamente", BenchmarkUsers.users(listSize));
+        singleResponse = ApiResponse.success("Usuario obtenido exitosamente", BenchmarkUsers.user(1));
+        summaryListResponse = ApiResponse.success("Usuarios obtenidos exitosamente",
+                listResponse.getData().stream()
+                        .map(user -> new UserSummary(user.getUserId(), user.getInstitutionId(), user.getFirstName(),
+                                user.getLastName(), user.getRole(), user.getStatus()))
+                        .toList());
+    }
+
+    @Benchmark
+    public byte[] serializeUserList() throws Exception {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+
+    /**
+     * Misma lista con la vista {@code summary}, para comparar bytes y tiempo frente a {@link #serializeUserList()}.
+     */
+    @Benchmark
+    public byte[] serializeUserSummaryList() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryListResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeSingleUser() throws Exception {
+        return objectMapper.writeValueAsBytes(singleResponse);
+    }
+}
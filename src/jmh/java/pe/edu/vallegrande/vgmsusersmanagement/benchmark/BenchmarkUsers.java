@@ -0,0 +1,49 @@
+package pe.edu.vallegrande.vgmsusersmanagement.benchmark;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba con la forma de un usuario real, compartidos por los benchmarks.
+ */
+final class BenchmarkUsers {
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private BenchmarkUsers() {
+    }
+
+    static User user(int index) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 8, 0).plusMinutes(index);
+        return User.builder()
+                .userId(String.format("%024x", index))
+                .institutionId("institution-" + (index % 40))
+                .firstName("María José " + index)
+                .lastName("Sulca Ñahui")
+                .documentType("DNI")
+                .documentNumber(String.format("%08d", 40_000_000 + index))
+                .phone("+51 987 654 321")
+                .address("Av. Los Álamos 123, Cañete")
+                .email("usuario" + index + "@vallegrande.edu.pe")
+                .userName("usuario" + index)
+                .role(ROLES[index % ROLES.length])
+                .status(index % 10 == 0 ? UserStatus.INACTIVE : UserStatus.ACTIVE)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusDays(1))
+                .version(1L)
+                .build();
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+}
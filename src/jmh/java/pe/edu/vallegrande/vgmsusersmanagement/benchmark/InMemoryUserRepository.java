@@ -0,0 +1,72 @@
+package pe.edu.vallegrande.vgmsusersmanagement.benchmark;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link UserRepository} en memoria para medir los pipelines de servicio y controlador sin MongoDB. Solo
+ * implementa las consultas que usan los benchmarks.
+ */
+final class InMemoryUserRepository implements InvocationHandler {
+
+    private final Map<String, User> users = new LinkedHashMap<>();
+
+    private InMemoryUserRepository(List<User> users) {
+        users.forEach(user -> this.users.put(user.getUserId(), user));
+    }
+
+    static UserRepository create(List<User> users) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[] { UserRepository.class },
+                new InMemoryUserRepository(users));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        int arity = args == null ? 0 : args.length;
+        switch (method.getName()) {
+            case "findAll", "listAll":
+                if (arity == 0) {
+                    return Flux.fromIterable(users.values());
+                }
+                break;
+            case "findById":
+                if (args[0] instanceof String userId) {
+                    return Mono.justOrEmpty(users.get(userId));
+                }
+                break;
+            case "listByStatus":
+                return Flux.fromIterable(users.values()).filter(user -> user.getStatus() == args[0]);
+            case "listByInstitution":
+                return Flux.fromIterable(users.values())
+                        .filter(user -> Objects.equals(user.getInstitutionId(), args[0]));
+            case "collectionVersion":
+                return Mono.just(new UserCollectionVersion(
+                        users.values().stream().filter(user -> args[0] == null || user.getStatus() == args[0]).count(),
+                        users.values().stream().map(User::getUpdatedAt).filter(Objects::nonNull)
+                                .max(Comparator.naturalOrder()).orElse(null)));
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "InMemoryUserRepository(" + users.size() + " usuarios)";
+            default:
+                break;
+        }
+        throw new UnsupportedOperationException("No soportado en el benchmark: " + method);
+    }
+}
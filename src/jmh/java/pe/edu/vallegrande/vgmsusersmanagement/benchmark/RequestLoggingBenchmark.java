@@ -0,0 +1,128 @@
+package pe.edu.vallegrande.vgmsusersmanagement.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.logback.LogbackLoggingSystem;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por petición de los logs con la configuración real de {@code logback-spring.xml}, cargada con
+ * {@link LogbackLoggingSystem} como al arrancar la aplicación:
+ * <ul>
+ *     <li>{@code DEFAULT}: perfil por defecto, consola con patrón síncrona y sin muestreo</li>
+ *     <li>{@code PROD}: perfil {@code prod}, JSON ECS de {@code StructuredLogEncoder} tras el
+ *     {@code AsyncAppender} y muestreo del 5 % ({@code application-prod.yml})</li>
+ * </ul>
+ * {@link #legacyInfoRequest()} reproduce las cuatro líneas INFO que escribía cada petición antes del cambio;
+ * {@link #getUserByIdRequest()} y {@link #patchUserRequest()}, las llamadas actuales del controlador y el servicio.
+ * La salida se descarta para medir el costo en el hilo de la petición y no la velocidad de la consola.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String USER_ID = "665f1c2e9b1e8a3d4c5b6a7f";
+
+    @Param({ "DEFAULT", "PROD" })
+    private String profile;
+
+    private LogbackLoggingSystem loggingSystem;
+
+    private Logger restLogger;
+
+    private Logger serviceLogger;
+
+    @Setup
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        if ("PROD".equals(profile)) {
+            environment.setActiveProfiles("prod");
+            environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                    Map.of("users.logging.success-sample-rate", "0.05")));
+        }
+        loggingSystem = new LogbackLoggingSystem(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml",
+                null);
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        discardOutput(context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders());
+        restLogger = context.getLogger("pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest.UserRest");
+        serviceLogger = context.getLogger(
+                "pe.edu.vallegrande.vgmsusersmanagement.application.service.impl.UserServiceImpl");
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggingSystem.cleanUp();
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+    }
+
+    @Benchmark
+    public void legacyInfoRequest() {
+        restLogger.info("Endpoint GET /api/users/{} - Obteniendo usuario por ID", USER_ID);
+        serviceLogger.info("Obteniendo usuario por ID: {}", USER_ID);
+        serviceLogger.info("Usuario encontrado: {}", USER_ID);
+        restLogger.info("Usuario encontrado: {}", USER_ID);
+    }
+
+    @Benchmark
+    public void getUserByIdRequest() {
+        restLogger.debug("Endpoint GET /api/users/{} - Obteniendo usuario por ID", USER_ID);
+        serviceLogger.debug("Obteniendo usuario por ID: {}", USER_ID);
+        serviceLogger.debug("Usuario encontrado: {}", USER_ID);
+        restLogger.debug("Usuario encontrado: {}", USER_ID);
+    }
+
+    @Benchmark
+    public void patchUserRequest() {
+        restLogger.debug("Endpoint PATCH /api/users/{} - Actualizando parcialmente usuario", USER_ID);
+        serviceLogger.debug("Actualizando parcialmente usuario con ID: {}", USER_ID);
+        serviceLogger.info("Usuario actualizado parcialmente: {}", USER_ID);
+        restLogger.debug("Usuario actualizado parcialmente: {}", USER_ID);
+    }
+
+    /**
+     * Redirige a un destino nulo los appenders de salida, también los que cuelgan de un appender asíncrono.
+     */
+    private static void discardOutput(Iterator<Appender<ILoggingEvent>> appenders) {
+        while (appenders.hasNext()) {
+            Appender<ILoggingEvent> appender = appenders.next();
+            if (appender instanceof AsyncAppenderBase<ILoggingEvent> async) {
+                discardOutput(async.iteratorForAppenders());
+            } else if (appender instanceof OutputStreamAppender<ILoggingEvent> output) {
+                output.setOutputStream(OutputStream.nullOutputStream());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package pe.edu.vallegrande.vgmsusersmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.CreateUserRequest;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.UserRequestMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de leer el cuerpo de {@code POST /api/v1/users}: enlazar el JSON directamente a la entidad {@link User}
+ * (camino anterior) frente a enlazar {@link CreateUserRequest}, validarlo y convertirlo con
+ * {@link UserRequestMapper}. El cuerpo es el de un cliente real, con los campos que asigna el servidor incluidos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserRequestBindingBenchmark {
+
+    private ObjectReader entityReader;
+
+    private ObjectReader requestReader;
+
+    private byte[] body;
+
+    private CreateUserRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        entityReader = objectMapper.readerFor(User.class);
+        requestReader = objectMapper.readerFor(CreateUserRequest.class);
+        body = objectMapper.writeValueAsBytes(BenchmarkUsers.user(7));
+        request = requestReader.readValue(body);
+    }
+
+    @Benchmark
+    public User bindEntity() throws Exception {
+        return entityReader.readValue(body);
+    }
+
+    @Benchmark
+    public CreateUserRequest bindRequest() throws Exception {
+        return requestReader.readValue(body);
+    }
+
+    @Benchmark
+    public List<String> validateRequest() {
+        return request.violations();
+    }
+
+    @Benchmark
+    public User mapRequest() {
+        return UserRequestMapper.toUser(request);
+    }
+
+    /**
+     * Camino completo del controlador actual: enlazar, validar y convertir.
+     */
+    @Benchmark
+    public User bindValidateAndMap() throws Exception {
+        CreateUserRequest parsed = requestReader.readValue(body);
+        if (!parsed.violations().isEmpty()) {
+            throw new IllegalStateException("Petición de benchmark inválida: " + parsed.violations());
+        }
+        return UserRequestMapper.toUser(parsed);
+    }
+}
@@ -0,0 +1,83 @@
+package pe.edu.vallegrande.vgmsusersmanagement.benchmark;
+
+import ch.qos.logback.classic.Level;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.impl.UserServiceImpl;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCache;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCacheTier;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter.NoOpUserCounters;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest.UserRest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipelines completos de {@link UserRest} sobre {@link UserServiceImpl} y un repositorio en memoria. Mide el
+ * costo propio de la aplicación (operadores de Reactor, caché, armado de respuestas) sin la red ni MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserRestPipelineBenchmark {
+
+    @Param({ "1000" })
+    private int userCount;
+
+    private UserRest userRest;
+
+    private String existingUserId;
+
+    @Setup
+    public void setUp() {
+        // Los logs por petición se miden por separado; aquí solo añadirían ruido de E/S a la consola
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        List<User> users = BenchmarkUsers.users(userCount);
+        existingUserId = users.get(userCount / 2).getUserId();
+        UserCache userCache = new UserCache(10_000, Duration.ofMinutes(5),
+                new StaticListableBeanFactory().getBeanProvider(UserCacheTier.class), new SimpleMeterRegistry());
+        UserService userService = new UserServiceImpl(InMemoryUserRepository.create(users), userCache,
+                new NoOpUserCounters(), 500, 2);
+        userRest = new UserRest(userService, 256);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<List<User>>> getAllUsers() {
+        return userRest.getAllUsers(MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users")))
+                .block();
+    }
+
+    @Benchmark
+    public Long streamAllUsers() {
+        return userRest.streamAllUsers().count().block();
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<User>> getUserById() {
+        return userRest.getUserById(existingUserId, null).block();
+    }
+}
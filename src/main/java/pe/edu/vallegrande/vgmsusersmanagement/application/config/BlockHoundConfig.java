@@ -0,0 +1,34 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking.BlockingCallReporter;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking.UsersBlockHoundIntegration;
+import reactor.blockhound.BlockHound;
+
+/**
+ * Instala BlockHound al arrancar con {@code users.blockhound.enabled=true} (perfil dev). La dependencia es
+ * opcional y no se empaqueta en el jar ejecutable, así que en producción esta configuración no se activa.
+ * Requiere la JVM con {@code -XX:+AllowRedefinitionToAddDeleteMethods}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(name = "reactor.blockhound.BlockHound")
+@ConditionalOnProperty(name = "users.blockhound.enabled", havingValue = "true")
+public class BlockHoundConfig {
+
+     public BlockHoundConfig(@Value("${users.blockhound.mode:report}") String mode) {
+          System.setProperty(UsersBlockHoundIntegration.MODE_PROPERTY, mode);
+          BlockHound.install();
+          log.info("BlockHound instalado en modo {}", mode);
+     }
+
+     @PreDestroy
+     public void logSummary() {
+          log.info(BlockingCallReporter.summary());
+     }
+}
@@ -0,0 +1,34 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Scheduler propio para el trabajo que no puede evitar bloquear (librerías síncronas, E/S de archivos). Es un
+ * bounded elastic con hilos y cola acotados: si se satura, las tareas nuevas se rechazan en lugar de crecer sin
+ * límite. Expone en Micrometer {@code users.blocking.scheduler.tasks.*}: pendientes en cola, activas,
+ * enviadas y completadas.
+ */
+@Configuration
+public class BlockingSchedulerConfig {
+
+     public static final String METRIC_PREFIX = "users.blocking";
+
+     @Bean(destroyMethod = "dispose")
+     public Scheduler blockingScheduler(MeterRegistry meterRegistry,
+               @Value("${users.blocking.thread-cap:32}") int threadCap,
+               @Value("${users.blocking.queue-cap:1000}") int queueCap,
+               @Value("${users.blocking.ttl:60s}") Duration ttl) {
+          Scheduler scheduler = Schedulers.newBoundedElastic(threadCap, queueCap, "users-blocking",
+                    (int) ttl.toSeconds(), true);
+          return Micrometer.timedScheduler(scheduler, meterRegistry, METRIC_PREFIX, Tags.empty());
+     }
+}
@@ -2,6 +2,8 @@ package pe.edu.vallegrande.vgmsusersmanagement.application.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
@@ -12,7 +14,12 @@ import java.util.List;
 @Configuration
 public class CorsConfig {
 
+     /**
+      * Primer filtro: las respuestas que otros filtros cortan antes del controlador (p. ej. los 429 del limitador)
+      * también llevan las cabeceras CORS.
+      */
      @Bean
+     @Order(Ordered.HIGHEST_PRECEDENCE)
      public CorsWebFilter corsWebFilter() {
           CorsConfiguration corsConfiguration = new CorsConfiguration();
 
@@ -30,7 +37,12 @@ public class CorsConfig {
                     "Accept",
                     "Origin",
                     "Access-Control-Request-Method",
-                    "Access-Control-Request-Headers"));
+                    "Access-Control-Request-Headers",
+                    "Idempotent-Replayed",
+                    "ETag",
+                    "Last-Modified",
+                    "Content-Disposition",
+                    "Retry-After"));
 
           corsConfiguration.setAllowCredentials(true);
 
@@ -0,0 +1,20 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.metrics.ReactiveMetricsPostProcessor;
+
+@Configuration
+public class MetricsConfig {
+
+     /**
+      * Estático para registrarse antes que los beans que instrumenta.
+      */
+     @Bean
+     public static ReactiveMetricsPostProcessor reactiveMetricsPostProcessor(
+               ObjectProvider<MeterRegistry> meterRegistry) {
+          return new ReactiveMetricsPostProcessor(meterRegistry);
+     }
+}
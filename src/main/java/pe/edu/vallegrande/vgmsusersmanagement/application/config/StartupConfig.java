@@ -0,0 +1,25 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.startup.LazyBeansPostProcessor;
+
+import java.util.List;
+
+/**
+ * Ajustes de arranque del perfil prod: la documentación OpenAPI y la UI de Swagger se inicializan con la
+ * primera petición en lugar de al levantar el pod.
+ */
+@Configuration
+@ConditionalOnProperty(name = "users.startup.lazy-docs", havingValue = "true")
+public class StartupConfig {
+
+     /**
+      * Estático para registrarse antes de que se instancie cualquier bean.
+      */
+     @Bean
+     public static LazyBeansPostProcessor lazyDocsPostProcessor() {
+          return new LazyBeansPostProcessor(List.of("org.springdoc.", OpenApiConfig.class.getName()));
+     }
+}
@@ -1,4 +1,63 @@
 package pe.edu.vallegrande.vgmsusersmanagement.application.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Clientes HTTP hacia los microservicios de instituciones y aulas. Ambos comparten un único pool de
+ * conexiones para no abrir conexiones por petición ni duplicar recursos de Netty.
+ */
+@Configuration
 public class WebClientConfig {
+
+     @Bean(destroyMethod = "dispose")
+     public ConnectionProvider remoteServicesConnectionProvider(
+               @Value("${users.clients.pool.max-connections:100}") int maxConnections,
+               @Value("${users.clients.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+               @Value("${users.clients.pool.max-idle-time:30s}") Duration maxIdleTime) {
+          return ConnectionProvider.builder("remote-services")
+                    .maxConnections(maxConnections)
+                    .pendingAcquireTimeout(pendingAcquireTimeout)
+                    .maxIdleTime(maxIdleTime)
+                    .evictInBackground(maxIdleTime)
+                    .metrics(true)
+                    .build();
+     }
+
+     @Bean
+     public HttpClient remoteServicesHttpClient(
+               ConnectionProvider remoteServicesConnectionProvider,
+               @Value("${users.clients.connect-timeout:1s}") Duration connectTimeout,
+               @Value("${users.clients.response-timeout:2s}") Duration responseTimeout) {
+          return HttpClient.create(remoteServicesConnectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                    .responseTimeout(responseTimeout)
+                    .compress(true);
+     }
+
+     @Bean
+     public WebClient institutionWebClient(WebClient.Builder builder, HttpClient remoteServicesHttpClient,
+               @Value("${users.clients.institution.base-url}") String baseUrl) {
+          return builder.clone()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(remoteServicesHttpClient))
+                    .build();
+     }
+
+     @Bean
+     public WebClient classroomWebClient(WebClient.Builder builder, HttpClient remoteServicesHttpClient,
+               @Value("${users.clients.classroom.base-url}") String baseUrl) {
+          return builder.clone()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(remoteServicesHttpClient))
+                    .build();
+     }
 }
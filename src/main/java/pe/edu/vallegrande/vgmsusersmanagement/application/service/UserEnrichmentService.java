@@ -0,0 +1,12 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service;
+
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserWithInstitutionResponse;
+import reactor.core.publisher.Flux;
+
+public interface UserEnrichmentService {
+
+    /**
+     * Usuarios junto con los datos de su institución. Si {@code institutionId} es nulo se recorren todos.
+     */
+    Flux<UserWithInstitutionResponse> getUsersWithInstitution(String institutionId);
+}
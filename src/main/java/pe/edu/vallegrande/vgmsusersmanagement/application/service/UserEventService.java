@@ -0,0 +1,23 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserEvent;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.CursorPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface UserEventService {
+
+    /**
+     * Eventos de cambio de usuarios en tiempo real. Con {@code resumeToken} se reanuda justo después del último
+     * evento recibido por el cliente; sin él se reciben los cambios a partir de la suscripción.
+     */
+    Flux<UserEvent> watchUsers(String resumeToken);
+
+    /**
+     * Usuarios modificados después de {@code since}, paginados por (updatedAt, userId) ascendente.
+     */
+    Mono<CursorPage<User>> getUsersChangedSince(LocalDateTime since, String cursor, int size);
+}
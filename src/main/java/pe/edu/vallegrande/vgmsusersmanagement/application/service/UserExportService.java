@@ -0,0 +1,36 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserExportJob;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+
+public interface UserExportService {
+
+    /**
+     * CSV de los usuarios que cumplen los filtros (nulos = sin filtro), leído del cursor de MongoDB a medida que
+     * el cliente consume la respuesta. Con {@code afterId} continúa una exportación interrumpida después de ese
+     * usuario y sin la fila de encabezados.
+     */
+    Flux<DataBuffer> exportUsers(UserStatus status, UserRole role, String institutionId, String afterId,
+                                 boolean gzip, DataBufferFactory bufferFactory);
+
+    /**
+     * Genera la exportación en un archivo del servidor, en segundo plano. Falla con
+     * {@link pe.edu.vallegrande.vgmsusersmanagement.domain.exception.ExportCapacityExceededException} si ya hay
+     * demasiadas en curso.
+     */
+    Mono<UserExportJob> startExportJob(UserStatus status, UserRole role, String institutionId, boolean gzip);
+
+    Mono<UserExportJob> getExportJob(String jobId);
+
+    /**
+     * Archivo de una exportación terminada; vacío si no existe, falló o aún está en curso.
+     */
+    Mono<Path> getExportFile(String jobId);
+}
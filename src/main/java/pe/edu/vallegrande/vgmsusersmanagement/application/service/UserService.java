@@ -1,11 +1,21 @@
 package pe.edu.vallegrande.vgmsusersmanagement.application.service;
 
 import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.UserImportItem;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.BulkItemResult;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.CursorPage;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserCreation;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 @Service
 public interface UserService {
 
@@ -13,12 +23,55 @@ public interface UserService {
 
     Flux<User> getUsersByStatus(UserStatus status);
 
+    <T> Flux<T> getAllUsers(Class<T> view);
+
+    <T> Flux<T> getUsersByStatus(UserStatus status, Class<T> view);
+
+    /**
+     * Página posterior a {@code after} (la primera si es nulo); el cursor lo decodifica el controlador.
+     */
+    Mono<CursorPage<User>> getUsersPage(UserStatus status, UserRole role, String institutionId, UserCursor after,
+                                        int size);
+
     Mono<User> getUserById(String userId);
 
+    /**
+     * Usuario por ID restringido a {@code institutionId} (sin restricción si es nulo). Con la institución, la
+     * consulta llega a un solo shard en modo particionado.
+     */
+    Mono<User> getUserById(String userId, String institutionId);
+
+    Flux<User> searchUsers(String query, int limit);
+
+    Mono<UserStatistics> getStatistics();
+
+    /**
+     * Validador del listado de usuarios con {@code status} (todos si es nulo), para respuestas condicionales.
+     * Vacío si no puede garantizarse que el nodo que sirve el listado ya tenga la última escritura.
+     */
+    Mono<UserCollectionVersion> getUsersVersion(UserStatus status);
+
     Mono<User> createUser(User user);
 
+    /**
+     * Crea el usuario de forma idempotente: si {@code idempotencyKey} ya se usó, devuelve el usuario creado
+     * entonces con {@code replayed=true}. Sin clave equivale a {@link #createUser(User)}.
+     */
+    Mono<UserCreation> createUser(User user, String idempotencyKey);
+
+    /**
+     * Inserta en lotes los elementos válidos; los que traen violaciones se informan como
+     * {@link BulkItemResult.Status#INVALID}. Se emite un resultado por elemento, en el orden recibido.
+     */
+    Flux<BulkItemResult> importUsers(Flux<UserImportItem> items);
+
     Mono<User> updateUser(String userId, User user);
 
+    /**
+     * Modifica solo los campos no nulos de {@code changes} y elimina los nombrados en {@code cleared}.
+     */
+    Mono<User> patchUser(String userId, User changes, Set<String> cleared);
+
     Mono<User> deleteUser(String userId);
 
     Mono<User> restoreUser(String userId);
@@ -0,0 +1,74 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserEnrichmentService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.InstitutionService;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.dto.InstitutionDto;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserWithInstitutionResponse;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class UserEnrichmentServiceImpl implements UserEnrichmentService {
+
+    private final UserRepository userRepository;
+
+    private final InstitutionService institutionService;
+
+    private final int concurrency;
+
+    private final Duration lookupTimeout;
+
+    public UserEnrichmentServiceImpl(UserRepository userRepository,
+                                     InstitutionService institutionService,
+                                     @Value("${users.enrichment.concurrency:64}") int concurrency,
+                                     @Value("${users.enrichment.lookup-timeout:500ms}") Duration lookupTimeout) {
+        this.userRepository = userRepository;
+        this.institutionService = institutionService;
+        this.concurrency = concurrency;
+        this.lookupTimeout = lookupTimeout;
+    }
+
+    @Override
+    public Flux<UserWithInstitutionResponse> getUsersWithInstitution(String institutionId) {
+        log.info("Obteniendo usuarios con institución (institución {})", institutionId);
+        Flux<User> users = institutionId == null
+                ? userRepository.listAll()
+                : userRepository.listByInstitution(institutionId);
+        // Resultado de cada institución dentro de esta petición: si el servicio remoto es lento, se espera como
+        // máximo un lookupTimeout por institución distinta y no uno por usuario
+        Map<String, Mono<Optional<InstitutionDto>>> lookups = new ConcurrentHashMap<>();
+        return users
+                .flatMapSequential(user -> enrich(user, lookups), concurrency)
+                .doOnError(error -> log.error("Error al obtener usuarios con institución: {}", error.getMessage()));
+    }
+
+    private Mono<UserWithInstitutionResponse> enrich(User user, Map<String, Mono<Optional<InstitutionDto>>> lookups) {
+        if (user.getInstitutionId() == null) {
+            return Mono.just(UserWithInstitutionResponse.of(user, null));
+        }
+        return lookups.computeIfAbsent(user.getInstitutionId(), this::lookup)
+                .map(institution -> UserWithInstitutionResponse.of(user, institution.orElse(null)))
+                .onErrorResume(error -> Mono.just(UserWithInstitutionResponse.unresolved(user)));
+    }
+
+    private Mono<Optional<InstitutionDto>> lookup(String institutionId) {
+        return institutionService.getInstitutionById(institutionId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .timeout(lookupTimeout)
+                .doOnError(error -> log.warn("Institución {} no disponible, se responde sin sus datos: {}",
+                        institutionId, error.getMessage()))
+                .cache();
+    }
+}
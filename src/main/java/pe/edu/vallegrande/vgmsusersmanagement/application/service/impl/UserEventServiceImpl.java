@@ -0,0 +1,84 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserEventService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserEvent;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.CursorPage;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserChangeStream;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserCursor;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+public class UserEventServiceImpl implements UserEventService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+
+    private final UserChangeStream userChangeStream;
+
+    private final int subscriberBufferSize;
+
+    /**
+     * Un único change stream compartido por todos los suscriptores en vivo; se abre con el primero y se cierra
+     * cuando se va el último.
+     */
+    private final Flux<UserEvent> liveEvents;
+
+    public UserEventServiceImpl(UserRepository userRepository,
+                                UserChangeStream userChangeStream,
+                                @Value("${users.events.subscriber-buffer-size:1024}") int subscriberBufferSize) {
+        this.userRepository = userRepository;
+        this.userChangeStream = userChangeStream;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.liveEvents = userChangeStream.watch(null)
+                .doOnSubscribe(subscription -> log.info("Abriendo change stream compartido de usuarios"))
+                .doOnCancel(() -> log.info("Cerrando change stream compartido de usuarios"))
+                .publish()
+                .refCount();
+    }
+
+    @Override
+    public Flux<UserEvent> watchUsers(String resumeToken) {
+        if (resumeToken == null || resumeToken.isBlank()) {
+            // Cada suscriptor tiene su propio búfer: uno lento recibe un error y se reconecta con su último token,
+            // sin frenar a los demás
+            return liveEvents.onBackpressureBuffer(subscriberBufferSize);
+        }
+        log.debug("Reanudando change stream de usuarios desde un token");
+        return Flux.defer(() -> userChangeStream.watch(resumeToken));
+    }
+
+    @Override
+    public Mono<CursorPage<User>> getUsersChangedSince(LocalDateTime since, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.debug("Obteniendo usuarios modificados desde {} (tamaño {})", since, pageSize);
+        return Mono.defer(() -> {
+                    UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+                    return userRepository.findChangedSince(since, after, pageSize + 1).collectList();
+                })
+                .map(users -> toPage(users, pageSize))
+                .doOnError(error -> log.error("Error al obtener usuarios modificados: {}", error.getMessage()));
+    }
+
+    private CursorPage<User> toPage(List<User> users, int pageSize) {
+        boolean hasMore = users.size() > pageSize;
+        List<User> items = hasMore ? users.subList(0, pageSize) : users;
+        // El cursor se devuelve aunque no haya más: es la marca desde la que continuar en la próxima sincronización
+        return CursorPage.<User>builder()
+                .items(items)
+                .size(items.size())
+                .hasMore(hasMore)
+                .nextCursor(items.isEmpty() ? null : UserCursor.ofUpdate(items.get(items.size() - 1)).encode())
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserExportService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.exception.ExportCapacityExceededException;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking.BlockingCalls;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserExportJob;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.export.UserCsvWriter;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class UserExportServiceImpl implements UserExportService {
+
+    private final UserRepository userRepository;
+
+    private final BlockingCalls blockingCalls;
+
+    private final int rowsPerBuffer;
+
+    private final Path directory;
+
+    private final int maxConcurrentJobs;
+
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    /**
+     * Exportaciones en archivo de este pod. Al expirar una entrada se cancela su generación si seguía en curso y
+     * se borra su archivo.
+     */
+    private final Cache<String, ExportJob> jobs;
+
+    public UserExportServiceImpl(UserRepository userRepository,
+                                 BlockingCalls blockingCalls,
+                                 @Value("${users.export.rows-per-buffer:500}") int rowsPerBuffer,
+                                 @Value("${users.export.directory:${java.io.tmpdir}/users-export}") Path directory,
+                                 @Value("${users.export.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                 @Value("${users.export.retention:24h}") Duration retention) {
+        this.userRepository = userRepository;
+        this.blockingCalls = blockingCalls;
+        this.rowsPerBuffer = rowsPerBuffer;
+        this.directory = directory;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .scheduler(Scheduler.systemScheduler())
+                .executor(Runnable::run)
+                .removalListener((String jobId, ExportJob job, RemovalCause cause) -> {
+                    if (job != null) {
+                        job.discard();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Flux<DataBuffer> exportUsers(UserStatus status, UserRole role, String institutionId, String afterId,
+                                        boolean gzip, DataBufferFactory bufferFactory) {
+        log.info("Exportando usuarios a CSV (estado {}, rol {}, institución {}, después de {}, gzip {})",
+                status, role, institutionId, afterId, gzip);
+        AtomicLong rows = new AtomicLong();
+        return UserCsvWriter.write(
+                        userRepository.streamForExport(status, role, institutionId, afterId, rowsPerBuffer)
+                                .doOnNext(user -> rows.incrementAndGet()),
+                        bufferFactory, gzip, afterId == null, rowsPerBuffer)
+                .doOnComplete(() -> log.info("Exportación CSV completada: {} usuarios", rows.get()))
+                .doOnCancel(() -> log.warn("Exportación CSV interrumpida por el cliente tras {} usuarios", rows.get()))
+                .doOnError(error -> log.error("Error al exportar usuarios: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<UserExportJob> startExportJob(UserStatus status, UserRole role, String institutionId, boolean gzip) {
+        return Mono.defer(() -> {
+            if (runningJobs.incrementAndGet() > maxConcurrentJobs) {
+                runningJobs.decrementAndGet();
+                return Mono.error(new ExportCapacityExceededException(maxConcurrentJobs));
+            }
+            String jobId = UUID.randomUUID().toString();
+            ExportJob job = new ExportJob(jobId, directory.resolve("users-" + jobId + (gzip ? ".csv.gz" : ".csv")));
+            jobs.put(jobId, job);
+            log.info("Iniciando exportación {} en {}", jobId, job.file);
+
+            Flux<DataBuffer> csv = UserCsvWriter.write(
+                    userRepository.streamForExport(status, role, institutionId, null, rowsPerBuffer)
+                            .doOnNext(user -> job.rows.incrementAndGet()),
+                    DefaultDataBufferFactory.sharedInstance, gzip, true, rowsPerBuffer);
+            job.run = blockingCalls.call(() -> Files.createDirectories(directory))
+                    .then(DataBufferUtils.write(csv, job.file))
+                    .doFinally(signal -> runningJobs.decrementAndGet())
+                    .subscribe(null, job::failed, job::completed);
+            return Mono.just(job.snapshot());
+        });
+    }
+
+    @Override
+    public Mono<UserExportJob> getExportJob(String jobId) {
+        return Mono.justOrEmpty(jobs.getIfPresent(jobId)).map(ExportJob::snapshot);
+    }
+
+    @Override
+    public Mono<Path> getExportFile(String jobId) {
+        return Mono.justOrEmpty(jobs.getIfPresent(jobId))
+                .filter(job -> ExportJob.COMPLETED.equals(job.status))
+                .map(job -> job.file);
+    }
+
+    @PreDestroy
+    void removeExportFiles() {
+        jobs.invalidateAll();
+    }
+
+    private static final class ExportJob {
+
+        private static final String RUNNING = "RUNNING";
+
+        private static final String COMPLETED = "COMPLETED";
+
+        private static final String FAILED = "FAILED";
+
+        private final String jobId;
+
+        private final Path file;
+
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private final AtomicLong rows = new AtomicLong();
+
+        private volatile String status = RUNNING;
+
+        private volatile LocalDateTime finishedAt;
+
+        private volatile String error;
+
+        private volatile Disposable run;
+
+        private ExportJob(String jobId, Path file) {
+            this.jobId = jobId;
+            this.file = file;
+        }
+
+        void completed() {
+            finishedAt = LocalDateTime.now();
+            status = COMPLETED;
+            log.info("Exportación {} completada: {} usuarios", jobId, rows.get());
+        }
+
+        void failed(Throwable failure) {
+            finishedAt = LocalDateTime.now();
+            error = failure.getMessage();
+            status = FAILED;
+            log.error("Exportación {} fallida: {}", jobId, failure.getMessage());
+            deleteFile();
+        }
+
+        void discard() {
+            Disposable current = run;
+            if (current != null) {
+                current.dispose();
+            }
+            deleteFile();
+        }
+
+        private void deleteFile() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("No se pudo eliminar el archivo de exportación {}: {}", file, e.getMessage());
+            }
+        }
+
+        UserExportJob snapshot() {
+            return UserExportJob.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .rows(rows.get())
+                    .fileName(file.getFileName().toString())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
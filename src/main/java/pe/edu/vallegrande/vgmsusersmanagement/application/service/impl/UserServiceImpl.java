@@ -2,50 +2,142 @@ package pe.edu.vallegrande.vgmsusersmanagement.application.service.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.exception.IdempotencyKeyReuseException;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserSearchKeys;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCache;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.UserImportItem;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.BulkItemResult;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.CursorPage;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserCreation;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserChange;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserCursor;
 import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter.UserCounters;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final int MAX_SEARCH_RESULTS = 50;
+
+    /** Candidatos leídos por cada resultado pedido, para poder ordenarlos por relevancia. */
+    private static final int SEARCH_CANDIDATES_FACTOR = 3;
+
+    /** Reintentos de un PATCH sin versión cuando otra escritura cambia el documento entre la lectura y el $set. */
+    private static final int SEARCH_KEYS_RETRIES = 3;
+
     private final UserRepository userRepository;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    private final UserCache userCache;
+
+    private final UserCounters userCounters;
+
+    private final int bulkChunkSize;
+
+    private final int bulkConcurrency;
+
+    public UserServiceImpl(UserRepository userRepository,
+                           UserCache userCache,
+                           UserCounters userCounters,
+                           @Value("${users.bulk.chunk-size:500}") int bulkChunkSize,
+                           @Value("${users.bulk.concurrency:2}") int bulkConcurrency) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.userCounters = userCounters;
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkConcurrency = bulkConcurrency;
     }
 
     @Override
     public Flux<User> getAllUsers() {
-        log.info("Obteniendo todos los usuarios");
-        return userRepository.findAll()
-                .doOnComplete(() -> log.info("Usuarios obtenidos exitosamente"))
+        log.debug("Obteniendo todos los usuarios");
+        return userRepository.listAll()
+                .doOnComplete(() -> log.debug("Usuarios obtenidos exitosamente"))
                 .doOnError(error -> log.error("Error al obtener usuarios: {}", error.getMessage()));
     }
 
     @Override
     public Flux<User> getUsersByStatus(UserStatus status) {
-        log.info("Obteniendo usuarios por estado: {}", status);
-        return userRepository.findByStatus(status)
-                .doOnComplete(() -> log.info("Usuarios filtrados por estado {} obtenidos exitosamente", status))
+        log.debug("Obteniendo usuarios por estado: {}", status);
+        return userRepository.listByStatus(status)
+                .doOnComplete(() -> log.debug("Usuarios filtrados por estado {} obtenidos exitosamente", status))
                 .doOnError(error -> log.error("Error al obtener usuarios por estado: {}", error.getMessage()));
     }
 
+    @Override
+    public <T> Flux<T> getAllUsers(Class<T> view) {
+        log.debug("Obteniendo todos los usuarios (vista {})", view.getSimpleName());
+        return userRepository.listAll(view)
+                .doOnError(error -> log.error("Error al obtener usuarios: {}", error.getMessage()));
+    }
+
+    @Override
+    public <T> Flux<T> getUsersByStatus(UserStatus status, Class<T> view) {
+        log.debug("Obteniendo usuarios por estado: {} (vista {})", status, view.getSimpleName());
+        return userRepository.listByStatus(status, view)
+                .doOnError(error -> log.error("Error al obtener usuarios por estado: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<CursorPage<User>> getUsersPage(UserStatus status, UserRole role, String institutionId,
+                                               UserCursor after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.debug("Obteniendo página de usuarios (tamaño {}, estado {}, rol {}, institución {})",
+                pageSize, status, role, institutionId);
+        return userRepository.findPage(status, role, institutionId, after, pageSize + 1)
+                .collectList()
+                .map(users -> toPage(users, pageSize))
+                .doOnError(error -> log.error("Error al obtener página de usuarios: {}", error.getMessage()));
+    }
+
     @Override
     public Mono<User> getUserById(String userId) {
-        log.info("Obteniendo usuario por ID: {}", userId);
-        return userRepository.findById(userId)
+        return getUserById(userId, null);
+    }
+
+    @Override
+    public Mono<User> getUserById(String userId, String institutionId) {
+        log.debug("Obteniendo usuario por ID: {}", userId);
+        Function<String, Mono<User>> loader = institutionId == null
+                ? userRepository::findById
+                : id -> userRepository.findByIdInTenant(id, institutionId);
+        return userCache.get(userId, loader)
+                // Un usuario en caché de otra institución no debe filtrarse entre instituciones
+                .filter(user -> institutionId == null || institutionId.equals(user.getInstitutionId()))
                 .doOnSuccess(user -> {
                     if (user != null) {
-                        log.info("Usuario encontrado: {}", userId);
+                        log.debug("Usuario encontrado: {}", userId);
                     } else {
                         log.warn("Usuario no encontrado: {}", userId);
                     }
@@ -53,69 +145,352 @@ public class UserServiceImpl implements UserService {
                 .doOnError(error -> log.error("Error al obtener usuario por ID: {}", error.getMessage()));
     }
 
+    @Override
+    public Flux<User> searchUsers(String query, int limit) {
+        List<String> terms = UserSearchKeys.terms(query);
+        int resultLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        log.debug("Buscando usuarios por prefijo: {}", terms);
+        if (terms.isEmpty()) {
+            return Flux.empty();
+        }
+        // Las coincidencias exactas se leen aparte: entre los candidatos por prefijo, que llegan sin orden, podrían
+        // quedar fuera del tope cuando el prefijo es común
+        return Flux.concat(
+                        userRepository.searchExact(terms, resultLimit),
+                        userRepository.searchByPrefix(terms, resultLimit * SEARCH_CANDIDATES_FACTOR))
+                .distinct(User::getUserId)
+                .collectList()
+                .flatMapIterable(candidates -> rank(candidates, terms.get(0), resultLimit))
+                .doOnError(error -> log.error("Error al buscar usuarios: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<UserStatistics> getStatistics() {
+        log.debug("Obteniendo estadísticas de usuarios");
+        return userCounters.read()
+                .switchIfEmpty(Mono.defer(userRepository::aggregateStatistics))
+                .doOnError(error -> log.error("Error al obtener estadísticas de usuarios: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<UserCollectionVersion> getUsersVersion(UserStatus status) {
+        return userRepository.collectionVersion(status);
+    }
+
     @Override
     public Mono<User> createUser(User user) {
-        log.info("Creando nuevo usuario: {}", user.getUserName());
+        return createUser(user, null).map(UserCreation::getUser);
+    }
+
+    @Override
+    public Mono<UserCreation> createUser(User user, String idempotencyKey) {
+        log.debug("Creando nuevo usuario: {}", user.getUserName());
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
+        user.setSearchKeys(UserSearchKeys.of(user));
         if (user.getStatus() == null) {
             user.setStatus(UserStatus.ACTIVE);
         }
-        return userRepository.save(user)
-                .doOnSuccess(savedUser -> log.info("Usuario creado exitosamente con ID: {}", savedUser.getUserId()))
+        // Los duplicados por documento o usuario los rechaza el índice único en la misma escritura, sin consulta previa
+        Mono<UserCreation> creation;
+        if (idempotencyKey == null) {
+            // Sin versión, save() siempre inserta; la versión inicial la asigna Spring Data
+            user.setVersion(null);
+            creation = userRepository.save(user).flatMap(this::created);
+        } else {
+            user.setUserId(new ObjectId().toHexString());
+            user.setVersion(0L);
+            user.setIdempotencyKey(idempotencyKey);
+            creation = userRepository.insertIfAbsent(user)
+                    .map(existingUser -> replayed(existingUser, user, idempotencyKey))
+                    .switchIfEmpty(Mono.defer(() -> created(user)));
+        }
+        return creation
+                .doOnSuccess(result -> log.info("Usuario {} con ID: {}",
+                        result.isReplayed() ? "ya creado previamente" : "creado exitosamente",
+                        result.getUser().getUserId()))
                 .doOnError(error -> log.error("Error al crear usuario: {}", error.getMessage()));
     }
 
+    @Override
+    public Flux<BulkItemResult> importUsers(Flux<UserImportItem> items) {
+        log.info("Importando usuarios en lotes de {}", bulkChunkSize);
+        // Solo se mantienen en memoria los lotes en vuelo: bulkConcurrency x bulkChunkSize usuarios
+        return items.index()
+                .buffer(bulkChunkSize)
+                .flatMapSequential(this::importChunk, bulkConcurrency, 1)
+                .doOnComplete(() -> log.info("Importación de usuarios finalizada"))
+                .doOnError(error -> log.error("Error al importar usuarios: {}", error.getMessage()));
+    }
+
     @Override
     public Mono<User> updateUser(String userId, User user) {
-        log.info("Actualizando usuario con ID: {}", userId);
-        return userRepository.findById(userId)
-                .flatMap(existingUser -> {
-                    existingUser.setInstitutionId(user.getInstitutionId());
-                    existingUser.setFirstName(user.getFirstName());
-                    existingUser.setLastName(user.getLastName());
-                    existingUser.setDocumentType(user.getDocumentType());
-                    existingUser.setDocumentNumber(user.getDocumentNumber());
-                    existingUser.setPhone(user.getPhone());
-                    existingUser.setAddress(user.getAddress());
-                    existingUser.setEmail(user.getEmail());
-                    existingUser.setUserName(user.getUserName());
-                    // No actualizar el rol - debe permanecer inmutable después de la creación
-                    // existingUser.setRole(user.getRole());
-                    // Solo actualizar el status si viene en la petición (no es null)
-                    if (user.getStatus() != null) {
-                        existingUser.setStatus(user.getStatus());
-                    }
-                    existingUser.setUpdatedAt(LocalDateTime.now());
-                    return userRepository.save(existingUser);
-                })
+        log.debug("Actualizando usuario con ID: {}", userId);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        // Sin institución en la petición se conserva la actual: es la clave de tenant y de partición
+        putIfPresent(fields, "institutionId", user.getInstitutionId());
+        fields.put("firstName", user.getFirstName());
+        fields.put("lastName", user.getLastName());
+        fields.put("documentType", user.getDocumentType());
+        fields.put("documentNumber", user.getDocumentNumber());
+        fields.put("phone", user.getPhone());
+        fields.put("address", user.getAddress());
+        fields.put("email", user.getEmail());
+        fields.put("userName", user.getUserName());
+        // No actualizar el rol - debe permanecer inmutable después de la creación
+        // Solo actualizar el status si viene en la petición (no es null)
+        if (user.getStatus() != null) {
+            fields.put("status", user.getStatus());
+        }
+        // PUT reemplaza todos los campos de búsqueda, así que las claves se calculan desde la petición
+        fields.put("searchKeys", UserSearchKeys.of(user));
+        return userRepository.updateFields(userId, fields, user.getVersion())
+                .flatMap(this::recordChange)
+                .flatMap(updatedUser -> userCache.evict(userId).thenReturn(updatedUser))
                 .doOnSuccess(updatedUser -> log.info("Usuario actualizado exitosamente: {}", userId))
                 .doOnError(error -> log.error("Error al actualizar usuario: {}", error.getMessage()));
     }
 
+    @Override
+    public Mono<User> patchUser(String userId, User changes, Set<String> cleared) {
+        log.debug("Actualizando parcialmente usuario con ID: {}", userId);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfPresent(fields, "institutionId", changes.getInstitutionId());
+        putIfPresent(fields, "firstName", changes.getFirstName());
+        putIfPresent(fields, "lastName", changes.getLastName());
+        putIfPresent(fields, "documentType", changes.getDocumentType());
+        putIfPresent(fields, "documentNumber", changes.getDocumentNumber());
+        putIfPresent(fields, "phone", changes.getPhone());
+        putIfPresent(fields, "address", changes.getAddress());
+        putIfPresent(fields, "email", changes.getEmail());
+        putIfPresent(fields, "userName", changes.getUserName());
+        putIfPresent(fields, "status", changes.getStatus());
+        // Un valor nulo se escribe como $unset
+        cleared.forEach(field -> fields.put(field, null));
+        if (fields.isEmpty()) {
+            return getUserById(userId);
+        }
+        boolean searchKeysChanged = fields.keySet().stream().anyMatch(UserSearchKeys.SOURCE_FIELDS::contains);
+        Mono<UserChange> update = searchKeysChanged
+                ? updateWithSearchKeys(userId, fields, changes.getVersion())
+                : userRepository.updateFields(userId, fields, changes.getVersion());
+        return update
+                .flatMap(this::recordChange)
+                .flatMap(updatedUser -> userCache.evict(userId).thenReturn(updatedUser))
+                .doOnSuccess(updatedUser -> log.info("Usuario actualizado parcialmente: {}", userId))
+                .doOnError(error -> log.error("Error al actualizar parcialmente usuario: {}", error.getMessage()));
+    }
+
     @Override
     public Mono<User> deleteUser(String userId) {
-        log.info("Eliminando lógicamente usuario con ID: {}", userId);
-        return userRepository.findById(userId)
-                .flatMap(user -> {
-                    user.setStatus(UserStatus.INACTIVE);
-                    user.setUpdatedAt(LocalDateTime.now());
-                    return userRepository.save(user);
-                })
+        log.debug("Eliminando lógicamente usuario con ID: {}", userId);
+        return userRepository.updateStatus(userId, UserStatus.INACTIVE)
+                .flatMap(this::recordChange)
+                .flatMap(deletedUser -> userCache.evict(userId).thenReturn(deletedUser))
                 .doOnSuccess(deletedUser -> log.info("Usuario eliminado lógicamente: {}", userId))
                 .doOnError(error -> log.error("Error al eliminar usuario: {}", error.getMessage()));
     }
 
     @Override
     public Mono<User> restoreUser(String userId) {
-        log.info("Restaurando usuario con ID: {}", userId);
-        return userRepository.findById(userId)
-                .flatMap(user -> {
-                    user.setStatus(UserStatus.ACTIVE);
-                    user.setUpdatedAt(LocalDateTime.now());
-                    return userRepository.save(user);
-                })
+        log.debug("Restaurando usuario con ID: {}", userId);
+        return userRepository.updateStatus(userId, UserStatus.ACTIVE)
+                .flatMap(this::recordChange)
+                .flatMap(restoredUser -> userCache.evict(userId).thenReturn(restoredUser))
                 .doOnSuccess(restoredUser -> log.info("Usuario restaurado exitosamente: {}", userId))
                 .doOnError(error -> log.error("Error al restaurar usuario: {}", error.getMessage()));
     }
+
+    /**
+     * Se consulta un elemento adicional para saber si existe una página siguiente sin un conteo aparte.
+     */
+    private CursorPage<User> toPage(List<User> users, int pageSize) {
+        boolean hasMore = users.size() > pageSize;
+        List<User> items = hasMore ? users.subList(0, pageSize) : users;
+        return CursorPage.<User>builder()
+                .items(items)
+                .size(items.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? UserCursor.of(items.get(items.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private Flux<BulkItemResult> importChunk(List<Tuple2<Long, UserImportItem>> chunk) {
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        List<Tuple2<Long, User>> accepted = new ArrayList<>(chunk.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (Tuple2<Long, UserImportItem> importItem : chunk) {
+            Tuple2<Long, User> item = Tuples.of(importItem.getT1(), importItem.getT2().getUser());
+            User user = item.getT2();
+            if (!importItem.getT2().valid()) {
+                results.add(result(item, BulkItemResult.Status.INVALID,
+                        "Datos inválidos: " + String.join("; ", importItem.getT2().getViolations())));
+                continue;
+            }
+            String missing = missingRequiredFields(user);
+            if (missing != null) {
+                results.add(result(item, BulkItemResult.Status.INVALID, "Campos obligatorios faltantes: " + missing));
+                continue;
+            }
+            // El ID se asigna aquí para poder informarlo sin leer de vuelta los documentos insertados
+            user.setUserId(new ObjectId().toHexString());
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            user.setVersion(0L);
+            user.setSearchKeys(UserSearchKeys.of(user));
+            if (user.getStatus() == null) {
+                user.setStatus(UserStatus.ACTIVE);
+            }
+            accepted.add(item);
+        }
+        if (accepted.isEmpty()) {
+            return Flux.fromIterable(results);
+        }
+        return userRepository.insertUnordered(accepted.stream().map(Tuple2::getT2).toList())
+                .flatMapMany(errors -> {
+                    Map<Integer, BulkWriteError> errorsByPosition = errors.stream()
+                            .collect(Collectors.toMap(BulkWriteError::getIndex, Function.identity()));
+                    List<User> created = new ArrayList<>(accepted.size());
+                    for (int position = 0; position < accepted.size(); position++) {
+                        BulkWriteError error = errorsByPosition.get(position);
+                        if (error == null) {
+                            created.add(accepted.get(position).getT2());
+                        }
+                        results.add(toResult(accepted.get(position), error));
+                    }
+                    results.sort(Comparator.comparingLong(BulkItemResult::getIndex));
+                    return userCounters.recordCreated(created).thenMany(Flux.fromIterable(results));
+                });
+    }
+
+    private BulkItemResult toResult(Tuple2<Long, User> item, BulkWriteError error) {
+        if (error == null) {
+            return result(item, BulkItemResult.Status.CREATED, null);
+        }
+        item.getT2().setUserId(null);
+        if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+            return result(item, BulkItemResult.Status.DUPLICATE, "Usuario duplicado: " + error.getMessage());
+        }
+        return result(item, BulkItemResult.Status.FAILED, error.getMessage());
+    }
+
+    private BulkItemResult result(Tuple2<Long, User> item, BulkItemResult.Status status, String message) {
+        return BulkItemResult.builder()
+                .index(item.getT1())
+                .status(status)
+                .userId(item.getT2().getUserId())
+                .userName(item.getT2().getUserName())
+                .message(message)
+                .build();
+    }
+
+    private String missingRequiredFields(User user) {
+        List<String> missing = new ArrayList<>();
+        if (isBlank(user.getFirstName())) {
+            missing.add("firstName");
+        }
+        if (isBlank(user.getLastName())) {
+            missing.add("lastName");
+        }
+        if (isBlank(user.getDocumentNumber())) {
+            missing.add("documentNumber");
+        }
+        if (isBlank(user.getUserName())) {
+            missing.add("userName");
+        }
+        if (user.getRole() == null) {
+            missing.add("role");
+        }
+        return missing.isEmpty() ? null : String.join(", ", missing);
+    }
+
+    private Mono<UserCreation> created(User user) {
+        return userCounters.record(null, user)
+                .then(userCache.evict(user.getUserId()))
+                .thenReturn(UserCreation.builder().user(user).replayed(false).build());
+    }
+
+    /**
+     * Un reintento válido repite el mismo documento y usuario; con otros datos la clave se está reutilizando.
+     */
+    private UserCreation replayed(User existingUser, User requested, String idempotencyKey) {
+        if (!Objects.equals(existingUser.getDocumentNumber(), requested.getDocumentNumber())
+                || !Objects.equals(existingUser.getUserName(), requested.getUserName())) {
+            throw new IdempotencyKeyReuseException(idempotencyKey);
+        }
+        return UserCreation.builder().user(existingUser).replayed(true).build();
+    }
+
+    private Mono<User> recordChange(UserChange change) {
+        return userCounters.record(change.getPrevious(), change.getCurrent()).thenReturn(change.getCurrent());
+    }
+
+    /**
+     * En un PATCH parcial las claves dependen de campos que no vienen en la petición, por eso se calculan sobre
+     * el documento actual con los cambios aplicados y se escriben en el mismo {@code findAndModify}. La escritura
+     * exige la versión leída: si otra escritura llega en medio, las claves se recalculan sobre el nuevo estado
+     * (o se informa el conflicto si el cliente envió su propia versión).
+     */
+    private Mono<UserChange> updateWithSearchKeys(String userId, Map<String, Object> fields, Long expectedVersion) {
+        return userRepository.findById(userId)
+                .flatMap(current -> {
+                    Long version = expectedVersion != null ? expectedVersion
+                            : current.getVersion() == null ? 0L : current.getVersion();
+                    fields.put("searchKeys", UserSearchKeys.of(withFields(current, fields)));
+                    return userRepository.updateFields(userId, fields, version);
+                })
+                .retryWhen(Retry.max(expectedVersion == null ? SEARCH_KEYS_RETRIES : 0)
+                        .filter(OptimisticLockingFailureException.class::isInstance));
+    }
+
+    private User withFields(User current, Map<String, Object> fields) {
+        return User.builder()
+                .firstName((String) fields.getOrDefault("firstName", current.getFirstName()))
+                .lastName((String) fields.getOrDefault("lastName", current.getLastName()))
+                .userName((String) fields.getOrDefault("userName", current.getUserName()))
+                .email((String) fields.getOrDefault("email", current.getEmail()))
+                .documentNumber((String) fields.getOrDefault("documentNumber", current.getDocumentNumber()))
+                .build();
+    }
+
+    /**
+     * Coincidencia exacta antes que prefijo, y usuario/documento antes que nombre; a igual puntaje, orden
+     * alfabético por apellido y nombre.
+     */
+    private List<User> rank(List<User> candidates, String term, int limit) {
+        Comparator<User> byRelevance = Comparator.<User>comparingInt(user -> score(user, term)).reversed()
+                .thenComparing(user -> UserSearchKeys.normalize(user.getLastName()))
+                .thenComparing(user -> UserSearchKeys.normalize(user.getFirstName()));
+        return candidates.stream().sorted(byRelevance).limit(limit).toList();
+    }
+
+    private int score(User user, String term) {
+        String userName = UserSearchKeys.normalize(user.getUserName());
+        String documentNumber = UserSearchKeys.normalize(user.getDocumentNumber());
+        if (term.equals(userName) || term.equals(documentNumber)) {
+            return 100;
+        }
+        List<String> keys = user.getSearchKeys() == null ? List.of() : user.getSearchKeys();
+        if (keys.contains(term)) {
+            return 60;
+        }
+        if (userName.startsWith(term) || documentNumber.startsWith(term)) {
+            return 40;
+        }
+        if (UserSearchKeys.normalize(user.getFirstName()).startsWith(term)
+                || UserSearchKeys.normalize(user.getLastName()).startsWith(term)) {
+            return 30;
+        }
+        return 10;
+    }
+
+    private void putIfPresent(Map<String, Object> fields, String field, Object value) {
+        if (value != null) {
+            fields.put(field, value);
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
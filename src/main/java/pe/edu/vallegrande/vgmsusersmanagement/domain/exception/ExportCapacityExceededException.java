@@ -0,0 +1,11 @@
+package pe.edu.vallegrande.vgmsusersmanagement.domain.exception;
+
+/**
+ * Ya se están generando tantos archivos de exportación como permite {@code users.export.max-concurrent-jobs}.
+ */
+public class ExportCapacityExceededException extends RuntimeException {
+
+    public ExportCapacityExceededException(int maxConcurrentJobs) {
+        super("Hay " + maxConcurrentJobs + " exportaciones en curso; intente nuevamente cuando alguna termine");
+    }
+}
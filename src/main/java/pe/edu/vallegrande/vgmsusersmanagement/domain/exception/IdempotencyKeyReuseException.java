@@ -0,0 +1,11 @@
+package pe.edu.vallegrande.vgmsusersmanagement.domain.exception;
+
+/**
+ * Una clave de idempotencia ya usada llegó con un usuario distinto al que se creó con ella.
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String idempotencyKey) {
+        super("La clave de idempotencia " + idempotencyKey + " ya se usó para crear otro usuario");
+    }
+}
@@ -1,22 +1,39 @@
 package pe.edu.vallegrande.vgmsusersmanagement.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Document(collection = "users")
+@CompoundIndexes({
+        // Índices para la paginación por cursor (createdAt, _id) con y sin filtros
+        @CompoundIndex(name = "page_createdAt", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "page_status_createdAt", def = "{'status': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "page_role_createdAt", def = "{'role': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "page_institution_createdAt", def = "{'institutionId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "page_institution_status_createdAt",
+                def = "{'institutionId': 1, 'status': 1, 'createdAt': -1, '_id': -1}"),
+        // Consulta de cambios para sincronización incremental
+        @CompoundIndex(name = "sync_updatedAt", def = "{'updatedAt': 1, '_id': 1}")
+})
 public class User {
 
     @Id
@@ -30,6 +47,7 @@ public class User {
 
     private String documentType;
 
+    @Indexed(name = "documentNumber_unique", unique = true, sparse = true)
     private String documentNumber;
 
     private String phone;
@@ -38,6 +56,7 @@ public class User {
 
     private  String email;
 
+    @Indexed(name = "userName_unique", unique = true, sparse = true)
     private String userName;
 
     private UserRole role;
@@ -48,6 +67,27 @@ public class User {
 
     private LocalDateTime updatedAt;
 
+    /**
+     * Versión para control de concurrencia optimista; se incrementa en cada escritura.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Claves normalizadas para la búsqueda por prefijo; se calculan en cada escritura con {@link UserSearchKeys}.
+     */
+    @JsonIgnore
+    @Indexed(name = "searchKeys_prefix")
+    private List<String> searchKeys;
+
+    /**
+     * Cabecera {@code Idempotency-Key} con la que se creó el usuario; un reintento con la misma clave devuelve
+     * este usuario en lugar de crear otro.
+     */
+    @JsonIgnore
+    @Indexed(name = "idempotencyKey_unique", unique = true, sparse = true)
+    private String idempotencyKey;
+
 
 
 }
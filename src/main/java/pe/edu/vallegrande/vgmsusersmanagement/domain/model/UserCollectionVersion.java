@@ -0,0 +1,24 @@
+package pe.edu.vallegrande.vgmsusersmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validador barato de un listado de usuarios: cuántos documentos incluye y la última modificación de la
+ * colección. Cualquier alta, edición o cambio de estado modifica al menos uno de los dos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCollectionVersion {
+
+    private long count;
+
+    /** Mayor {@code updatedAt} de la colección; nulo si ningún documento lo tiene. */
+    private LocalDateTime lastUpdatedAt;
+}
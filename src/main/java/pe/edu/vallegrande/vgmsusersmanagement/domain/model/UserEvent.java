@@ -0,0 +1,36 @@
+package pe.edu.vallegrande.vgmsusersmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Cambio sobre un usuario publicado a los servicios que sincronizan de forma incremental.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserEvent {
+
+    private Type type;
+
+    private String userId;
+
+    /** Estado del usuario tras el cambio; nulo cuando el documento fue eliminado físicamente. */
+    private User user;
+
+    /** Token opaco para reanudar la suscripción justo después de este evento. */
+    private String resumeToken;
+
+    private Instant occurredAt;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        REMOVED
+    }
+}
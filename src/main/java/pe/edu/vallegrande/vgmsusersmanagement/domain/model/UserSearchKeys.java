@@ -0,0 +1,72 @@
+package pe.edu.vallegrande.vgmsusersmanagement.domain.model;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Claves de búsqueda normalizadas (minúsculas y sin tildes) de un usuario. Se guardan en
+ * {@link User#getSearchKeys()} con un índice multikey, de modo que una búsqueda por prefijo es un recorrido
+ * de rango sobre el índice.
+ */
+public final class UserSearchKeys {
+
+    /** Campos de {@link User} que alimentan las claves de búsqueda. */
+    public static final Set<String> SOURCE_FIELDS = Set.of("firstName", "lastName", "userName", "email",
+            "documentNumber");
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private UserSearchKeys() {
+    }
+
+    public static List<String> of(User user) {
+        Set<String> keys = new LinkedHashSet<>();
+        String firstName = normalize(user.getFirstName());
+        String lastName = normalize(user.getLastName());
+        addWithWords(keys, firstName);
+        addWithWords(keys, lastName);
+        if (!firstName.isEmpty() && !lastName.isEmpty()) {
+            keys.add(firstName + " " + lastName);
+        }
+        add(keys, normalize(user.getUserName()));
+        add(keys, normalize(user.getEmail()));
+        add(keys, normalize(user.getDocumentNumber()));
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Minúsculas, sin tildes ni diéresis ("Ñahui" → "nahui") y con espacios simples.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return WHITESPACE.matcher(DIACRITICS.matcher(decomposed).replaceAll("")).replaceAll(" ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> terms(String query) {
+        String normalized = normalize(query);
+        return normalized.isEmpty() ? List.of() : List.of(WHITESPACE.split(normalized));
+    }
+
+    private static void addWithWords(Set<String> keys, String value) {
+        add(keys, value);
+        for (String word : WHITESPACE.split(value)) {
+            add(keys, word);
+        }
+    }
+
+    private static void add(Set<String> keys, String value) {
+        if (!value.isEmpty()) {
+            keys.add(value);
+        }
+    }
+}
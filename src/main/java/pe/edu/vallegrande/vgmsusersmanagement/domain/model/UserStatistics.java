@@ -0,0 +1,40 @@
+package pe.edu.vallegrande.vgmsusersmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Conteo de usuarios por rol, estado e institución.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatistics {
+
+    /** Clave usada para los usuarios sin institución asignada. */
+    public static final String UNASSIGNED = "UNASSIGNED";
+
+    private long total;
+
+    private Map<String, Long> byRole;
+
+    private Map<String, Long> byStatus;
+
+    private Map<String, Long> byInstitution;
+
+    /** Origen de los conteos: agregación sobre la colección o contadores materializados. */
+    private Source source;
+
+    private LocalDateTime generatedAt;
+
+    public enum Source {
+        AGGREGATION,
+        COUNTERS
+    }
+}
@@ -0,0 +1,93 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Registro de las llamadas bloqueantes detectadas en hilos no bloqueantes. Cada llamada se atribuye al primer
+ * frame de la aplicación ajeno al detector, de modo que el reporte nombra el método de {@code UserRest},
+ * {@code UserServiceImpl}, etc. que la originó. Es estático porque BlockHound invoca su callback fuera del
+ * contexto de Spring.
+ */
+@Slf4j
+public final class BlockingCallReporter {
+
+    static final String APPLICATION_PACKAGE = "pe.edu.vallegrande.vgmsusersmanagement.";
+
+    // Por nombre: esta clase no debe depender de BlockHound, que no se empaqueta en el jar ejecutable
+    private static final List<String> DETECTOR_CLASSES = List.of(BlockingCallReporter.class.getName(),
+            BlockingCallReporter.class.getPackageName() + ".UsersBlockHoundIntegration");
+
+    private static final String UNKNOWN_SITE = "(fuera de la aplicación)";
+
+    private static final Map<String, LongAdder> CALL_SITES = new ConcurrentHashMap<>();
+
+    private BlockingCallReporter() {
+    }
+
+    /**
+     * Registra una llamada bloqueante. La primera vez que aparece un punto de llamada se emite un WARN con el
+     * método bloqueante y el hilo; las siguientes solo incrementan su contador.
+     */
+    public static String report(String blockingMethod, Throwable trace) {
+        String site = callSite(trace.getStackTrace());
+        String key = site + " -> " + blockingMethod;
+        LongAdder count = CALL_SITES.computeIfAbsent(key, k -> {
+            log.warn("Llamada bloqueante {} en el hilo no bloqueante {} desde {}", blockingMethod,
+                    Thread.currentThread().getName(), site);
+            return new LongAdder();
+        });
+        count.increment();
+        return site;
+    }
+
+    /**
+     * Puntos de llamada detectados con su número de ocurrencias, de mayor a menor.
+     */
+    public static Map<String, Long> callSites() {
+        return CALL_SITES.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum())
+                        .reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum(), (a, b) -> a,
+                        LinkedHashMap::new));
+    }
+
+    public static String summary() {
+        Map<String, Long> sites = callSites();
+        if (sites.isEmpty()) {
+            return "No se detectaron llamadas bloqueantes";
+        }
+        List<String> lines = sites.entrySet().stream()
+                .map(e -> "  " + e.getValue() + "x " + e.getKey())
+                .toList();
+        return "Llamadas bloqueantes detectadas en hilos no bloqueantes:\n" + String.join("\n", lines);
+    }
+
+    static void reset() {
+        CALL_SITES.clear();
+    }
+
+    private static String callSite(StackTraceElement[] stack) {
+        return Arrays.stream(stack)
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && DETECTOR_CLASSES.stream().noneMatch(frame.getClassName()::startsWith))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName()
+                        + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                .orElse(UNKNOWN_SITE);
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int lambda = name.indexOf('$');
+        return lambda > 0 ? name.substring(0, lambda) : name;
+    }
+}
@@ -0,0 +1,35 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Punto único para ejecutar código bloqueante desde un flujo reactivo: la llamada se suscribe en el scheduler
+ * {@code blockingScheduler} y nunca en el event loop de Netty ni en {@code parallel}. Si la cola del scheduler
+ * está llena, el {@code Mono} falla con {@link java.util.concurrent.RejectedExecutionException}.
+ */
+@Component
+public class BlockingCalls {
+
+    private final Scheduler blockingScheduler;
+
+    public BlockingCalls(@Qualifier("blockingScheduler") Scheduler blockingScheduler) {
+        this.blockingScheduler = blockingScheduler;
+    }
+
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(blockingScheduler);
+    }
+
+    public Mono<Void> run(Runnable task) {
+        return Mono.fromRunnable(task).subscribeOn(blockingScheduler).then();
+    }
+
+    public Scheduler scheduler() {
+        return blockingScheduler;
+    }
+}
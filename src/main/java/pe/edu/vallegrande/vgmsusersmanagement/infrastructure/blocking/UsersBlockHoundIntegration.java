@@ -0,0 +1,35 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * Integración de BlockHound del servicio. Se carga por {@link java.util.ServiceLoader} tanto al instalarlo
+ * desde {@code BlockHoundConfig} (perfil dev) como desde {@code blockhound-junit-platform} en las pruebas.
+ * <p>
+ * Cada llamada bloqueante se registra en {@link BlockingCallReporter}; en modo {@code strict} (por defecto)
+ * además falla con {@link BlockingOperationError}, en modo {@code report} solo se registra.
+ */
+public class UsersBlockHoundIntegration implements BlockHoundIntegration {
+
+    public static final String MODE_PROPERTY = "users.blockhound.mode";
+
+    public static final String REPORT_MODE = "report";
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        builder
+                // El propio reporte escribe en el log
+                .allowBlockingCallsInside(BlockingCallReporter.class.getName(), "report")
+                // Fuera de prod la consola de logback es síncrona; en prod se escribe desde un AsyncAppender
+                .allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "writeBytes")
+                .blockingMethodCallback(method -> {
+                    Error error = new BlockingOperationError(method);
+                    BlockingCallReporter.report(method.toString(), error);
+                    if (!REPORT_MODE.equalsIgnoreCase(System.getProperty(MODE_PROPERTY))) {
+                        throw error;
+                    }
+                });
+    }
+}
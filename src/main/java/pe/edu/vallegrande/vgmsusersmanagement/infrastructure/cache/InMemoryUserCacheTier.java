@@ -0,0 +1,38 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Segundo nivel local que reemplaza a uno distribuido en pruebas y entornos de desarrollo.
+ */
+@Component
+@ConditionalOnProperty(name = "users.cache.second-tier", havingValue = "in-memory")
+public class InMemoryUserCacheTier implements UserCacheTier {
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<User> get(String userId) {
+        return Mono.justOrEmpty(users.get(userId));
+    }
+
+    @Override
+    public Mono<Void> put(User user) {
+        return Mono.fromRunnable(() -> users.put(user.getUserId(), user));
+    }
+
+    @Override
+    public Mono<Void> evict(String userId) {
+        return Mono.fromRunnable(() -> users.remove(userId));
+    }
+
+    public int size() {
+        return users.size();
+    }
+}
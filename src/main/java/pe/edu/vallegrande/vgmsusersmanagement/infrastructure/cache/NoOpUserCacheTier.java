@@ -0,0 +1,25 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Segundo nivel por defecto: no almacena nada.
+ */
+public class NoOpUserCacheTier implements UserCacheTier {
+
+    @Override
+    public Mono<User> get(String userId) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> put(User user) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> evict(String userId) {
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,57 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura de usuarios por ID. Las consultas concurrentes por el mismo ID comparten una única
+ * carga, y las entradas expiran por tamaño y por tiempo. Los usuarios inexistentes no se almacenan.
+ */
+@Component
+public class UserCache {
+
+    public static final String CACHE_NAME = "users.byId";
+
+    private final AsyncCache<String, User> cache;
+
+    private final UserCacheTier secondTier;
+
+    public UserCache(@Value("${users.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${users.cache.ttl:5m}") Duration ttl,
+                     ObjectProvider<UserCacheTier> secondTier,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.secondTier = secondTier.getIfAvailable(NoOpUserCacheTier::new);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Mono<User> get(String userId, Function<String, Mono<User>> loader) {
+        // suppressCancel: cancelar a un suscriptor no debe cancelar la carga compartida con los demás
+        return Mono.fromFuture(() -> cache.get(userId, (key, executor) -> load(key, loader).toFuture()), true);
+    }
+
+    public Mono<Void> evict(String userId) {
+        return Mono.fromRunnable(() -> cache.synchronous().invalidate(userId))
+                .then(secondTier.evict(userId));
+    }
+
+    private Mono<User> load(String userId, Function<String, Mono<User>> loader) {
+        return secondTier.get(userId)
+                .switchIfEmpty(Mono.defer(() -> loader.apply(userId)
+                        .flatMap(user -> secondTier.put(user).thenReturn(user))));
+    }
+}
@@ -0,0 +1,16 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Segundo nivel de caché (p. ej. distribuido) consultado por {@link UserCache} antes de ir a MongoDB.
+ */
+public interface UserCacheTier {
+
+    Mono<User> get(String userId);
+
+    Mono<Void> put(User user);
+
+    Mono<Void> evict(String userId);
+}
@@ -1,4 +1,87 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.dto.ClassroomDto;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cliente del microservicio de aulas, que responde con el mismo envoltorio {@link ApiResponse}.
+ */
+@Component
+@Slf4j
 public class ClassroomService {
+
+    private static final ParameterizedTypeReference<ApiResponse<ClassroomDto>> CLASSROOM_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private static final ParameterizedTypeReference<ApiResponse<List<ClassroomDto>>> CLASSROOMS_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient classroomWebClient;
+
+    private final Duration callTimeout;
+
+    private final CoalescingLookup<ClassroomDto> lookup;
+
+    public ClassroomService(@Qualifier("classroomWebClient") WebClient classroomWebClient,
+                            @Value("${users.clients.classroom.call-timeout:2s}") Duration callTimeout,
+                            @Value("${users.clients.lookup-concurrency:16}") int lookupConcurrency,
+                            @Value("${users.clients.classroom.cache-ttl:10m}") Duration cacheTtl,
+                            @Value("${users.clients.classroom.cache-size:5000}") long cacheSize) {
+        this.classroomWebClient = classroomWebClient;
+        this.callTimeout = callTimeout;
+        this.lookup = new CoalescingLookup<>(this::fetchClassroom, lookupConcurrency, cacheTtl, cacheSize);
+    }
+
+    /**
+     * Obtiene un aula; vacío si no existe.
+     */
+    public Mono<ClassroomDto> getClassroomById(String classroomId) {
+        return lookup.get(classroomId);
+    }
+
+    /**
+     * Obtiene varias aulas con una llamada por ID distinto. Las que no existen no aparecen en el mapa.
+     */
+    public Mono<Map<String, ClassroomDto>> getClassroomsByIds(Collection<String> classroomIds) {
+        return lookup.getAll(classroomIds);
+    }
+
+    public Flux<ClassroomDto> getClassroomsByInstitution(String institutionId) {
+        return classroomWebClient.get()
+                .uri("/api/v1/classrooms/institution/{institutionId}", institutionId)
+                .retrieve()
+                .bodyToMono(CLASSROOMS_RESPONSE)
+                .timeout(callTimeout)
+                .flatMapIterable(response -> response.getData() == null ? List.of() : response.getData())
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> Flux.empty())
+                .doOnError(error -> log.error("Error al obtener aulas de la institución {}: {}", institutionId,
+                        error.getMessage()));
+    }
+
+    private Mono<ClassroomDto> fetchClassroom(String classroomId) {
+        return classroomWebClient.get()
+                .uri("/api/v1/classrooms/{classroomId}", classroomId)
+                .retrieve()
+                .bodyToMono(CLASSROOM_RESPONSE)
+                .timeout(callTimeout)
+                .mapNotNull(ApiResponse::getData)
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.empty())
+                .doOnError(error -> log.error("Error al obtener aula {}: {}", classroomId, error.getMessage()));
+    }
 }
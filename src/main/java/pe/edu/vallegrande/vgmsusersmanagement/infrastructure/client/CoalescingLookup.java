@@ -0,0 +1,48 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Consulta remota por ID con caché TTL. Las peticiones concurrentes por el mismo ID comparten una sola
+ * llamada, y los lotes de IDs se resuelven con una llamada por ID distinto y concurrencia acotada. Los
+ * resultados vacíos y los errores no se almacenan.
+ */
+class CoalescingLookup<T> {
+
+    private final AsyncCache<String, T> cache;
+
+    private final Function<String, Mono<T>> fetch;
+
+    private final int concurrency;
+
+    CoalescingLookup(Function<String, Mono<T>> fetch, int concurrency, Duration ttl, long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.fetch = fetch;
+        this.concurrency = concurrency;
+    }
+
+    Mono<T> get(String id) {
+        // suppressCancel: cancelar a un suscriptor no debe cancelar la llamada compartida con los demás
+        return Mono.fromFuture(() -> cache.get(id, (key, executor) -> fetch.apply(key).toFuture()), true);
+    }
+
+    Mono<Map<String, T>> getAll(Collection<String> ids) {
+        return Flux.fromIterable(ids)
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(id -> get(id).map(value -> Map.entry(id, value)), concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
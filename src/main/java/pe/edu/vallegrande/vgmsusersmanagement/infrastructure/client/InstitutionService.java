@@ -1,4 +1,70 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.dto.InstitutionDto;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Cliente del microservicio de instituciones, que responde con el mismo envoltorio {@link ApiResponse}.
+ */
+@Component
+@Slf4j
 public class InstitutionService {
+
+    private static final ParameterizedTypeReference<ApiResponse<InstitutionDto>> INSTITUTION_RESPONSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient institutionWebClient;
+
+    private final Duration callTimeout;
+
+    private final CoalescingLookup<InstitutionDto> lookup;
+
+    public InstitutionService(@Qualifier("institutionWebClient") WebClient institutionWebClient,
+                              @Value("${users.clients.institution.call-timeout:2s}") Duration callTimeout,
+                              @Value("${users.clients.lookup-concurrency:16}") int lookupConcurrency,
+                              @Value("${users.clients.institution.cache-ttl:10m}") Duration cacheTtl,
+                              @Value("${users.clients.institution.cache-size:5000}") long cacheSize) {
+        this.institutionWebClient = institutionWebClient;
+        this.callTimeout = callTimeout;
+        this.lookup = new CoalescingLookup<>(this::fetchInstitution, lookupConcurrency, cacheTtl, cacheSize);
+    }
+
+    /**
+     * Obtiene una institución; vacío si no existe.
+     */
+    public Mono<InstitutionDto> getInstitutionById(String institutionId) {
+        return lookup.get(institutionId);
+    }
+
+    /**
+     * Obtiene varias instituciones con una llamada por ID distinto. Las que no existen no aparecen en el mapa.
+     */
+    public Mono<Map<String, InstitutionDto>> getInstitutionsByIds(Collection<String> institutionIds) {
+        return lookup.getAll(institutionIds);
+    }
+
+    private Mono<InstitutionDto> fetchInstitution(String institutionId) {
+        return institutionWebClient.get()
+                .uri("/api/v1/institutions/{institutionId}", institutionId)
+                .retrieve()
+                .bodyToMono(INSTITUTION_RESPONSE)
+                .timeout(callTimeout)
+                .mapNotNull(ApiResponse::getData)
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.empty())
+                .doOnError(error -> log.error("Error al obtener institución {}: {}", institutionId,
+                        error.getMessage()));
+    }
 }
@@ -1,4 +1,23 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class ClassroomDto {
+    private String classroomId;
+    private String institutionId;
+    private String name;
+    private String grade;
+    private String section;
+    private String shift;
+    private Integer capacity;
+    private String status;
 }
@@ -1,4 +1,22 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class InstitutionDto {
+    private String institutionId;
+    private String name;
+    private String code;
+    private String address;
+    private String phone;
+    private String email;
+    private String status;
 }
@@ -1,4 +1,64 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
 
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+
+import java.util.List;
+
+import static pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.RequestViolations.*;
+
+/**
+ * Cuerpo de {@code POST /api/v1/users} y de cada elemento de la importación masiva. Solo contiene los campos que
+ * el cliente puede definir: ID, fechas, versión y claves internas los asigna el servicio.
+ */
+@Value
+@Builder
+@Jacksonized
 public class CreateUserRequest {
+
+    String institutionId;
+
+    String firstName;
+
+    String lastName;
+
+    String documentType;
+
+    String documentNumber;
+
+    String phone;
+
+    String address;
+
+    String email;
+
+    String userName;
+
+    UserRole role;
+
+    /** Opcional; por defecto ACTIVE. */
+    UserStatus status;
+
+    /**
+     * @return mensajes de validación; vacío si la petición es válida
+     */
+    public List<String> violations() {
+        return new RequestViolations()
+                .optional("institutionId", institutionId, ID_MAX)
+                .required("firstName", firstName, NAME_MAX)
+                .required("lastName", lastName, NAME_MAX)
+                .optional("documentType", documentType, DOCUMENT_TYPE_MAX)
+                .required("documentNumber", documentNumber, DOCUMENT_NUMBER_MAX)
+                .optional("phone", phone, PHONE_MAX)
+                .phone("phone", phone)
+                .optional("address", address, ADDRESS_MAX)
+                .optional("email", email, EMAIL_MAX)
+                .email("email", email)
+                .required("userName", userName, USER_NAME_MAX)
+                .required("role", role)
+                .list();
+    }
 }
@@ -0,0 +1,113 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reglas de validación comunes de las peticiones de usuario, escritas a mano: se evalúan en el controlador, antes
+ * de cualquier consulta a MongoDB, y sin reflexión ni anotaciones.
+ */
+final class RequestViolations {
+
+    static final int ID_MAX = 64;
+
+    static final int NAME_MAX = 100;
+
+    static final int DOCUMENT_TYPE_MAX = 20;
+
+    static final int DOCUMENT_NUMBER_MAX = 20;
+
+    static final int PHONE_MAX = 20;
+
+    static final int ADDRESS_MAX = 255;
+
+    static final int EMAIL_MAX = 254;
+
+    static final int USER_NAME_MAX = 50;
+
+    private final List<String> messages = new ArrayList<>(2);
+
+    /** Campo obligatorio: no nulo, no vacío y de como máximo {@code maxLength} caracteres. */
+    RequestViolations required(String field, String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            messages.add(field + " es obligatorio");
+            return this;
+        }
+        return optional(field, value, maxLength);
+    }
+
+    RequestViolations required(String field, Object value) {
+        if (value == null) {
+            messages.add(field + " es obligatorio");
+        }
+        return this;
+    }
+
+    /** Campo obligatorio en una actualización parcial: puede omitirse, pero no enviarse vacío. */
+    RequestViolations notBlankIfPresent(String field, String value, int maxLength) {
+        if (value != null && value.isBlank()) {
+            messages.add(field + " no puede estar vacío");
+            return this;
+        }
+        return optional(field, value, maxLength);
+    }
+
+    /** Campo opcional: puede omitirse o enviarse vacío, pero no exceder {@code maxLength}. */
+    RequestViolations optional(String field, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            messages.add(field + " admite como máximo " + maxLength + " caracteres");
+        }
+        return this;
+    }
+
+    RequestViolations email(String field, String value) {
+        if (value != null && !value.isBlank() && !isEmail(value.trim())) {
+            messages.add(field + " no es un correo válido");
+        }
+        return this;
+    }
+
+    RequestViolations phone(String field, String value) {
+        if (value != null && !value.isBlank() && !isPhone(value.trim())) {
+            messages.add(field + " solo admite dígitos, espacios, '+', '-' y paréntesis");
+        }
+        return this;
+    }
+
+    List<String> list() {
+        return messages.isEmpty() ? List.of() : List.copyOf(messages);
+    }
+
+    /**
+     * Forma mínima {@code local@dominio.tld}, sin espacios; la verificación real es el correo de confirmación.
+     */
+    private static boolean isEmail(String value) {
+        int at = value.indexOf('@');
+        if (at <= 0 || at != value.lastIndexOf('@')) {
+            return false;
+        }
+        int dot = value.lastIndexOf('.');
+        if (dot < at + 2 || dot == value.length() - 1) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPhone(String value) {
+        int digits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c != ' ' && c != '+' && c != '-' && c != '(' && c != ')') {
+                return false;
+            }
+        }
+        return digits >= 6;
+    }
+}
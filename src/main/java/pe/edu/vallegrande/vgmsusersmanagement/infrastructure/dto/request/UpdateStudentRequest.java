@@ -1,4 +0,0 @@
-package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
-
-public class UpdateStudentRequest {
-}
@@ -0,0 +1,61 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+
+import java.util.List;
+
+import static pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.RequestViolations.*;
+
+/**
+ * Cuerpo de {@code PUT /api/v1/users/{userId}}: reemplaza todos los datos editables. El rol no se incluye porque
+ * no cambia después de la creación.
+ */
+@Value
+@Builder
+@Jacksonized
+public class UpdateUserRequest {
+
+    /** Opcional; si se omite se conserva la institución actual. No puede enviarse vacía. */
+    String institutionId;
+
+    String firstName;
+
+    String lastName;
+
+    String documentType;
+
+    String documentNumber;
+
+    String phone;
+
+    String address;
+
+    String email;
+
+    String userName;
+
+    /** Opcional; si se omite se conserva el estado actual. */
+    UserStatus status;
+
+    /** Opcional; si se envía, la actualización falla con 409 cuando el usuario cambió desde esa versión. */
+    Long version;
+
+    public List<String> violations() {
+        return new RequestViolations()
+                .notBlankIfPresent("institutionId", institutionId, ID_MAX)
+                .required("firstName", firstName, NAME_MAX)
+                .required("lastName", lastName, NAME_MAX)
+                .optional("documentType", documentType, DOCUMENT_TYPE_MAX)
+                .required("documentNumber", documentNumber, DOCUMENT_NUMBER_MAX)
+                .optional("phone", phone, PHONE_MAX)
+                .phone("phone", phone)
+                .optional("address", address, ADDRESS_MAX)
+                .optional("email", email, EMAIL_MAX)
+                .email("email", email)
+                .required("userName", userName, USER_NAME_MAX)
+                .list();
+    }
+}
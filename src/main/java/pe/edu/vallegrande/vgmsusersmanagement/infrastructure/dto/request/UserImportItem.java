@@ -0,0 +1,22 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
+
+import lombok.Builder;
+import lombok.Value;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+import java.util.List;
+
+/**
+ * Elemento de una importación masiva: el usuario convertido y las validaciones que no superó la petición.
+ * Los elementos con violaciones se informan como inválidos sin llegar a MongoDB.
+ */
+@Value
+@Builder
+public class UserImportItem {
+    User user;
+    List<String> violations;
+
+    public boolean valid() {
+        return violations.isEmpty();
+    }
+}
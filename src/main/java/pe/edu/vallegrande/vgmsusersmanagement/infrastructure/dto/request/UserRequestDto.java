@@ -1,4 +1,81 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
 
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.RequestViolations.*;
+
+/**
+ * Cuerpo de {@code PATCH /api/v1/users/{userId}}: solo se modifican los campos enviados (no nulos). Los campos
+ * opcionales enviados vacíos se borran; los obligatorios no pueden vaciarse.
+ */
+@Value
+@Builder
+@Jacksonized
 public class UserRequestDto {
+
+    String institutionId;
+
+    String firstName;
+
+    String lastName;
+
+    String documentType;
+
+    String documentNumber;
+
+    String phone;
+
+    String address;
+
+    String email;
+
+    String userName;
+
+    UserStatus status;
+
+    /** Opcional; si se envía, la actualización falla con 409 cuando el usuario cambió desde esa versión. */
+    Long version;
+
+    public List<String> violations() {
+        // Una institución vacía movería al usuario a un tenant inexistente (y reescribiría la clave de partición)
+        return new RequestViolations()
+                .notBlankIfPresent("institutionId", institutionId, ID_MAX)
+                .notBlankIfPresent("firstName", firstName, NAME_MAX)
+                .notBlankIfPresent("lastName", lastName, NAME_MAX)
+                .optional("documentType", documentType, DOCUMENT_TYPE_MAX)
+                .notBlankIfPresent("documentNumber", documentNumber, DOCUMENT_NUMBER_MAX)
+                .optional("phone", phone, PHONE_MAX)
+                .phone("phone", phone)
+                .optional("address", address, ADDRESS_MAX)
+                .optional("email", email, EMAIL_MAX)
+                .email("email", email)
+                .notBlankIfPresent("userName", userName, USER_NAME_MAX)
+                .list();
+    }
+
+    /**
+     * Campos opcionales enviados vacíos, que el cliente pide borrar. En {@link UserRequestMapper} quedan nulos
+     * como los omitidos, así que se informan aparte.
+     */
+    public Set<String> clearedFields() {
+        Set<String> cleared = new LinkedHashSet<>(4);
+        addIfBlank(cleared, "documentType", documentType);
+        addIfBlank(cleared, "phone", phone);
+        addIfBlank(cleared, "address", address);
+        addIfBlank(cleared, "email", email);
+        return cleared;
+    }
+
+    private static void addIfBlank(Set<String> cleared, String field, String value) {
+        if (value != null && value.isBlank()) {
+            cleared.add(field);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+/**
+ * Conversión de las peticiones a {@link User}, campo por campo y sin reflexión. Los textos se recortan y los
+ * opcionales vacíos se guardan como ausentes. ID, fechas, claves de búsqueda e idempotencia nunca provienen del
+ * cliente.
+ */
+public final class UserRequestMapper {
+
+    private UserRequestMapper() {
+    }
+
+    public static User toUser(CreateUserRequest request) {
+        return User.builder()
+                .institutionId(optional(request.getInstitutionId()))
+                .firstName(trim(request.getFirstName()))
+                .lastName(trim(request.getLastName()))
+                .documentType(optional(request.getDocumentType()))
+                .documentNumber(trim(request.getDocumentNumber()))
+                .phone(optional(request.getPhone()))
+                .address(optional(request.getAddress()))
+                .email(optional(request.getEmail()))
+                .userName(trim(request.getUserName()))
+                .role(request.getRole())
+                .status(request.getStatus())
+                .build();
+    }
+
+    public static UserImportItem toImportItem(CreateUserRequest request) {
+        return UserImportItem.builder()
+                .user(toUser(request))
+                .violations(request.violations())
+                .build();
+    }
+
+    public static User toUser(UpdateUserRequest request) {
+        return User.builder()
+                .institutionId(optional(request.getInstitutionId()))
+                .firstName(trim(request.getFirstName()))
+                .lastName(trim(request.getLastName()))
+                .documentType(optional(request.getDocumentType()))
+                .documentNumber(trim(request.getDocumentNumber()))
+                .phone(optional(request.getPhone()))
+                .address(optional(request.getAddress()))
+                .email(optional(request.getEmail()))
+                .userName(trim(request.getUserName()))
+                .status(request.getStatus())
+                .version(request.getVersion())
+                .build();
+    }
+
+    /**
+     * Los campos nulos o vacíos quedan nulos (no se modifican); los que deben borrarse se obtienen con
+     * {@link UserRequestDto#clearedFields()}.
+     */
+    public static User toUser(UserRequestDto request) {
+        return User.builder()
+                .institutionId(optional(request.getInstitutionId()))
+                .firstName(optional(request.getFirstName()))
+                .lastName(optional(request.getLastName()))
+                .documentType(optional(request.getDocumentType()))
+                .documentNumber(optional(request.getDocumentNumber()))
+                .phone(optional(request.getPhone()))
+                .address(optional(request.getAddress()))
+                .email(optional(request.getEmail()))
+                .userName(optional(request.getUserName()))
+                .status(request.getStatus())
+                .version(request.getVersion())
+                .build();
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static String optional(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
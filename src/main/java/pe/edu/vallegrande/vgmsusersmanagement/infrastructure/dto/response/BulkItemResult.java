@@ -0,0 +1,26 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    /** Posición del usuario dentro del lote recibido (base 0). */
+    private long index;
+    private Status status;
+    private String userId;
+    private String userName;
+    private String message;
+}
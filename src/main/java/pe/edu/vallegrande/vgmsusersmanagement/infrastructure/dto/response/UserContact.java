@@ -0,0 +1,20 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
+
+import lombok.Value;
+
+/**
+ * Vista de contacto de un usuario: identificación, nombre, correo y teléfono.
+ */
+@Value
+public class UserContact {
+
+    String userId;
+
+    String firstName;
+
+    String lastName;
+
+    String email;
+
+    String phone;
+}
@@ -0,0 +1,20 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+/**
+ * Resultado de una creación: el usuario y si ya existía por una petición previa con la misma clave de
+ * idempotencia.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCreation {
+    private User user;
+    private boolean replayed;
+}
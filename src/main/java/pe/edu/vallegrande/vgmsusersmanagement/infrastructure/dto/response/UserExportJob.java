@@ -0,0 +1,23 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserExportJob {
+    private String jobId;
+    /** RUNNING, COMPLETED o FAILED. */
+    private String status;
+    private long rows;
+    private String fileName;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
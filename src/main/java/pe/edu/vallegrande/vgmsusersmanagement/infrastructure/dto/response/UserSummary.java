@@ -0,0 +1,25 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
+
+import lombok.Value;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+
+/**
+ * Vista resumida de un usuario para selectores y grillas. Como proyección DTO de Spring Data, MongoDB solo
+ * devuelve los campos que coinciden con los parámetros del constructor.
+ */
+@Value
+public class UserSummary {
+
+    String userId;
+
+    String institutionId;
+
+    String firstName;
+
+    String lastName;
+
+    UserRole role;
+
+    UserStatus status;
+}
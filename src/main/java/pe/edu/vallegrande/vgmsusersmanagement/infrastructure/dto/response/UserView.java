@@ -0,0 +1,33 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+import java.util.Locale;
+
+/**
+ * Vistas de usuario que se pueden pedir en los listados con {@code ?view=}.
+ */
+public enum UserView {
+
+    FULL(User.class),
+    SUMMARY(UserSummary.class),
+    CONTACT(UserContact.class);
+
+    private final Class<?> type;
+
+    UserView(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public static UserView from(String view) {
+        try {
+            return valueOf(view.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Vista inválida. Use FULL, SUMMARY o CONTACT", e);
+        }
+    }
+}
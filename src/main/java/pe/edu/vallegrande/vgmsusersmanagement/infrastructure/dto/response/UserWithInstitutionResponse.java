@@ -1,4 +1,61 @@
 package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client.dto.InstitutionDto;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserWithInstitutionResponse {
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String documentType;
+    private String documentNumber;
+    private String phone;
+    private String address;
+    private String email;
+    private String userName;
+    private UserRole role;
+    private UserStatus status;
+    private String institutionId;
+    private InstitutionDto institution;
+    /** Falso cuando no se pudo consultar la institución a tiempo y la respuesta es parcial. */
+    private boolean institutionResolved;
+
+    public static UserWithInstitutionResponse of(User user, InstitutionDto institution) {
+        return of(user, institution, true);
+    }
+
+    public static UserWithInstitutionResponse unresolved(User user) {
+        return of(user, null, false);
+    }
+
+    private static UserWithInstitutionResponse of(User user, InstitutionDto institution, boolean resolved) {
+        return UserWithInstitutionResponse.builder()
+                .userId(user.getUserId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .documentType(user.getDocumentType())
+                .documentNumber(user.getDocumentNumber())
+                .phone(user.getPhone())
+                .address(user.getAddress())
+                .email(user.getEmail())
+                .userName(user.getUserName())
+                .role(user.getRole())
+                .status(user.getStatus())
+                .institutionId(user.getInstitutionId())
+                .institution(institution)
+                .institutionResolved(resolved)
+                .build();
+    }
 }
@@ -0,0 +1,225 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.export;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Convierte un flujo de usuarios en CSV (RFC 4180, UTF-8), opcionalmente comprimido con gzip. Cada lote de
+ * {@code rowsPerBuffer} filas se escribe directamente en un {@link DataBuffer} del servidor, sin arreglos
+ * intermedios, así que la memoria usada depende del tamaño del lote y no del total exportado.
+ * <p>
+ * Cada buffer termina en una fila completa y, con gzip, en un bloque vaciado con sync flush: si la transferencia
+ * se corta, lo recibido se puede descomprimir y la exportación se reanuda desde el último {@code userId}.
+ */
+public final class UserCsvWriter {
+
+    public static final List<String> COLUMNS = List.of("userId", "institutionId", "firstName", "lastName",
+            "documentType", "documentNumber", "phone", "address", "email", "userName", "role", "status",
+            "createdAt", "updatedAt");
+
+    private static final List<Function<User, Object>> VALUES = List.of(User::getUserId, User::getInstitutionId,
+            User::getFirstName, User::getLastName, User::getDocumentType, User::getDocumentNumber, User::getPhone,
+            User::getAddress, User::getEmail, User::getUserName, User::getRole, User::getStatus,
+            User::getCreatedAt, User::getUpdatedAt);
+
+    /**
+     * Columnas que no son texto libre: ID generado, enumerados, fechas y el teléfono, que solo admite dígitos,
+     * espacios, {@code + - ( )}. Un {@code +51 999 888 777} es un valor válido y se exporta tal cual.
+     */
+    private static final Set<String> TYPED_COLUMNS = Set.of("userId", "phone", "role", "status", "createdAt",
+            "updatedAt");
+
+    private static final List<Boolean> FREE_TEXT = COLUMNS.stream()
+            .map(column -> !TYPED_COLUMNS.contains(column))
+            .toList();
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String PHONE_CHARACTERS = "0123456789 +-()";
+
+    private UserCsvWriter() {
+    }
+
+    /**
+     * @param header incluir la fila de encabezados; se omite al reanudar para poder concatenar las partes
+     */
+    public static Flux<DataBuffer> write(Flux<User> users, DataBufferFactory bufferFactory, boolean gzip,
+                                         boolean header, int rowsPerBuffer) {
+        return Flux.using(
+                () -> new Encoder(bufferFactory, gzip),
+                encoder -> Flux.concat(
+                        header ? Mono.fromCallable(encoder::header) : Mono.<DataBuffer>empty(),
+                        users.buffer(rowsPerBuffer).map(encoder::rows),
+                        Mono.fromCallable(encoder::finish)),
+                Encoder::close)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    static String escape(Object value) {
+        return escape(value, true);
+    }
+
+    /**
+     * Comillas según RFC 4180. Las celdas de texto libre que empiezan por {@code = + - @}, tabulador o retorno de
+     * carro llevan un apóstrofo delante para que una hoja de cálculo no las evalúe como fórmula (inyección CSV
+     * desde nombres o direcciones). En las columnas tipadas solo se neutraliza un valor con caracteres ajenos a un
+     * teléfono, como un dato antiguo guardado sin validar.
+     */
+    static String escape(Object value, boolean freeText) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0
+                && (freeText || !onlyPhoneCharacters(text))) {
+            text = "'" + text;
+        }
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+
+    private static boolean onlyPhoneCharacters(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (PHONE_CHARACTERS.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mantiene un único {@link Writer} (y compresor) durante toda la exportación; solo cambia el buffer destino
+     * entre lotes.
+     */
+    private static final class Encoder implements AutoCloseable {
+
+        private final DataBufferFactory bufferFactory;
+
+        private final RedirectableOutputStream target = new RedirectableOutputStream();
+
+        private final GZIPOutputStream compressor;
+
+        private final Writer writer;
+
+        /** Primer buffer: recibe la cabecera gzip, que {@link GZIPOutputStream} escribe al crearse. */
+        private DataBuffer pending;
+
+        private Encoder(DataBufferFactory bufferFactory, boolean gzip) throws IOException {
+            this.bufferFactory = bufferFactory;
+            this.pending = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+            target.redirect(pending.asOutputStream());
+            this.compressor = gzip ? new GZIPOutputStream(target, 8192, true) : null;
+            this.writer = new OutputStreamWriter(gzip ? compressor : target, StandardCharsets.UTF_8);
+            target.redirect(null);
+        }
+
+        DataBuffer header() {
+            return encode(out -> line(out, COLUMNS.stream().map(UserCsvWriter::escape).toList()));
+        }
+
+        DataBuffer rows(List<User> users) {
+            return encode(out -> {
+                for (User user : users) {
+                    List<String> cells = new ArrayList<>(VALUES.size());
+                    for (int i = 0; i < VALUES.size(); i++) {
+                        cells.add(escape(VALUES.get(i).apply(user), FREE_TEXT.get(i)));
+                    }
+                    line(out, cells);
+                }
+            });
+        }
+
+        DataBuffer finish() {
+            return encode(out -> {
+                if (compressor != null) {
+                    out.flush();
+                    compressor.finish();
+                }
+            });
+        }
+
+        private DataBuffer encode(IoConsumer<Writer> body) {
+            DataBuffer buffer = pending != null ? pending : bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+            pending = null;
+            target.redirect(buffer.asOutputStream());
+            try {
+                body.accept(writer);
+                writer.flush();
+                return buffer;
+            } catch (IOException e) {
+                DataBufferUtils.release(buffer);
+                throw new UncheckedIOException(e);
+            } finally {
+                target.redirect(null);
+            }
+        }
+
+        private static void line(Writer out, List<String> cells) throws IOException {
+            out.write(String.join(",", cells));
+            out.write("\r\n");
+        }
+
+        @Override
+        public void close() {
+            if (pending != null) {
+                DataBufferUtils.release(pending);
+                pending = null;
+            }
+            if (compressor != null) {
+                // Libera el Deflater nativo aunque la exportación se haya cancelado
+                target.redirect(OutputStream.nullOutputStream());
+                try {
+                    compressor.close();
+                } catch (IOException ignored) {
+                    // nada que hacer: el destino descarta los bytes
+                }
+            }
+        }
+    }
+
+    private static final class RedirectableOutputStream extends OutputStream {
+
+        private OutputStream delegate;
+
+        void redirect(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+}
@@ -0,0 +1,52 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Muestrea los eventos por debajo de WARN de los loggers del camino de cada petición (controlador y servicio de
+ * usuarios): solo se registra la fracción {@code sampleRate} de ellos. WARN y ERROR siempre se registran, y los
+ * demás loggers (índices, migraciones, contadores, exportaciones) no se muestrean porque sus eventos son
+ * puntuales. Al ser un TurboFilter se evalúa antes de formatear el mensaje, por lo que los eventos descartados
+ * casi no tienen costo.
+ */
+public class SuccessSamplingTurboFilter extends TurboFilter {
+
+    private Set<String> loggers = Set.of(
+            "pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest.UserRest",
+            "pe.edu.vallegrande.vgmsusersmanagement.application.service.impl.UserServiceImpl");
+
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!isStarted() || sampleRate >= 1.0 || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !loggers.contains(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * @param loggers nombres exactos de los loggers muestreados, separados por comas
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
@@ -0,0 +1,103 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mide los métodos reactivos desde la suscripción hasta la señal terminal (no el ensamblado del pipeline):
+ * <ul>
+ *     <li>{@code <name>}: latencia con percentiles p50/p95/p99, etiquetada por método y resultado</li>
+ *     <li>{@code <name>.errors}: errores por método y tipo de excepción</li>
+ *     <li>{@code users.flux.elements}: elementos emitidos por cada {@link Flux} completado</li>
+ * </ul>
+ */
+public class ReactiveMetricsInterceptor implements MethodInterceptor {
+
+    private static final String SUCCESS = "success";
+
+    private static final String ERROR = "error";
+
+    private static final String CANCELLED = "cancelled";
+
+    private final MeterRegistry meterRegistry;
+
+    private final String name;
+
+    private final String component;
+
+    public ReactiveMetricsInterceptor(MeterRegistry meterRegistry, String name, String component) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+        this.component = component;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        String method = invocation.getMethod().getName();
+        if (result instanceof Mono<?> mono) {
+            return timed(mono, method);
+        }
+        if (result instanceof Flux<?> flux) {
+            return timed(flux, method);
+        }
+        return result;
+    }
+
+    private <T> Mono<T> timed(Mono<T> mono, String method) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return mono
+                    .doOnSuccess(value -> stop(sample, method, SUCCESS))
+                    .doOnError(error -> failed(sample, method, error))
+                    .doOnCancel(() -> stop(sample, method, CANCELLED));
+        });
+    }
+
+    private <T> Flux<T> timed(Flux<T> flux, String method) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicLong elements = new AtomicLong();
+            return flux
+                    .doOnNext(value -> elements.incrementAndGet())
+                    .doOnComplete(() -> {
+                        stop(sample, method, SUCCESS);
+                        DistributionSummary.builder("users.flux.elements")
+                                .description("Elementos emitidos por cada consulta de listado")
+                                .tag("component", component)
+                                .tag("method", method)
+                                .publishPercentiles(0.5, 0.95, 0.99)
+                                .register(meterRegistry)
+                                .record(elements.get());
+                    })
+                    .doOnError(error -> failed(sample, method, error))
+                    .doOnCancel(() -> stop(sample, method, CANCELLED));
+        });
+    }
+
+    private void failed(Timer.Sample sample, String method, Throwable error) {
+        stop(sample, method, ERROR);
+        Counter.builder(name + ".errors")
+                .tag("method", method)
+                .tag("exception", error.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void stop(Timer.Sample sample, String method, String outcome) {
+        sample.stop(Timer.builder(name)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,44 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+
+/**
+ * Envuelve {@link UserService} y {@link UserRepository} con {@link ReactiveMetricsInterceptor}, de modo que
+ * cada método queda medido sin tocar su implementación.
+ */
+public class ReactiveMetricsPostProcessor implements BeanPostProcessor {
+
+    public static final String SERVICE_METRIC = "users.service";
+
+    public static final String REPOSITORY_METRIC = "users.repository";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ReactiveMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof UserService) {
+            return instrument(bean, UserService.class, SERVICE_METRIC, "service");
+        }
+        if (bean instanceof UserRepository) {
+            return instrument(bean, UserRepository.class, REPOSITORY_METRIC, "repository");
+        }
+        return bean;
+    }
+
+    private Object instrument(Object bean, Class<?> type, String metric, String component) {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.setInterfaces(type);
+        proxyFactory.addAdvice(new ReactiveMetricsInterceptor(meterRegistry.getObject(), metric, component));
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+}
@@ -0,0 +1,11 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.ratelimit;
+
+/**
+ * Presupuesto de tráfico que consume una petición a {@code /api/v1/users}.
+ */
+public enum RequestCategory {
+    /** Listados, búsquedas, estadísticas, exportaciones y cargas masivas: recorren muchos documentos. */
+    LISTING,
+    /** Lectura o escritura de un usuario por ID: una consulta por índice. */
+    POINT
+}
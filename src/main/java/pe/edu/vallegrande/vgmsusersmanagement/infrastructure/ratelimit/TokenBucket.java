@@ -0,0 +1,50 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin bloqueos, implementado como GCRA: el estado es un único {@code long} (el instante teórico en
+ * que el bucket vuelve a estar lleno) que se actualiza con CAS. No hay hilo de recarga ni candado, y consultar
+ * el bucket no reserva memoria.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity tokens disponibles de una sola vez (ráfaga)
+     * @param refillPerSecond tokens que se recuperan por segundo
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("La capacidad y la recarga del token bucket deben ser positivas");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Consume un token si hay disponible.
+     *
+     * @return {@link Duration#ZERO} si se concedió, o el tiempo hasta el próximo token si no
+     */
+    public Duration tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long wait = next - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return Duration.ofNanos(wait);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+}
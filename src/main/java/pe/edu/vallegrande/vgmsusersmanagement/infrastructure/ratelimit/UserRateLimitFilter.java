@@ -0,0 +1,278 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ErrorResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limita el tráfico de cada cliente (dirección remota) hacia {@code /api/v1/users} con dos token buckets: uno
+ * para listados y otro, más amplio, para operaciones por ID. Además acota los listados en curso, en total y por
+ * cliente, para que un integrador que consulta en bucle no acapare las conexiones a MongoDB. Las peticiones fuera
+ * de presupuesto reciben 429 con {@code Retry-After} sin llegar al controlador.
+ * <p>
+ * Detrás de un proxy, {@code server.forward-headers-strategy} hace que la dirección remota sea la del cliente.
+ * El estado es por pod: con N réplicas el límite efectivo de un cliente es N veces el configurado.
+ */
+@Component
+@ConditionalOnProperty(name = "users.ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UserRateLimitFilter implements WebFilter, Ordered {
+
+    /** Después de {@code CorsWebFilter}, para que los 429 lleven las cabeceras CORS. */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private static final String API_PATH = "/api/v1/users";
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private static final List<PathPattern> LISTING_PATHS = List.of(
+            PARSER.parse(API_PATH + "/status/**"),
+            PARSER.parse(API_PATH + "/page"),
+            PARSER.parse(API_PATH + "/search"),
+            PARSER.parse(API_PATH + "/statistics"),
+            PARSER.parse(API_PATH + "/changes"),
+            PARSER.parse(API_PATH + "/events"),
+            PARSER.parse(API_PATH + "/with-institution"),
+            PARSER.parse(API_PATH + "/export/**"),
+            PARSER.parse(API_PATH + "/bulk"));
+
+    /** Suscripciones SSE: duran lo que dure la conexión, así que no ocupan un cupo de listados en curso. */
+    private static final PathPattern LONG_LIVED_PATH = PARSER.parse(API_PATH + "/events");
+
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final ObjectMapper objectMapper;
+
+    private final long listingCapacity;
+
+    private final double listingRefillPerSecond;
+
+    private final long pointCapacity;
+
+    private final double pointRefillPerSecond;
+
+    private final int maxInFlightListings;
+
+    private final int maxInFlightPerClient;
+
+    private final AtomicInteger inFlightListings = new AtomicInteger();
+
+    private final Cache<String, ClientBudget> clients;
+
+    private final Map<RequestCategory, Counter> allowed = new EnumMap<>(RequestCategory.class);
+
+    private final Map<RequestCategory, Map<Rejection, Counter>> rejected = new EnumMap<>(RequestCategory.class);
+
+    public UserRateLimitFilter(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${users.ratelimit.listing.capacity:20}") long listingCapacity,
+                               @Value("${users.ratelimit.listing.refill-per-second:5}") double listingRefillPerSecond,
+                               @Value("${users.ratelimit.point.capacity:200}") long pointCapacity,
+                               @Value("${users.ratelimit.point.refill-per-second:100}") double pointRefillPerSecond,
+                               @Value("${users.ratelimit.max-in-flight-listings:64}") int maxInFlightListings,
+                               @Value("${users.ratelimit.max-in-flight-per-client:4}") int maxInFlightPerClient,
+                               @Value("${users.ratelimit.max-clients:100000}") long maxClients,
+                               @Value("${users.ratelimit.client-idle-timeout:10m}") Duration clientIdleTimeout) {
+        this.objectMapper = objectMapper;
+        this.listingCapacity = listingCapacity;
+        this.listingRefillPerSecond = listingRefillPerSecond;
+        this.pointCapacity = pointCapacity;
+        this.pointRefillPerSecond = pointRefillPerSecond;
+        this.maxInFlightListings = maxInFlightListings;
+        this.maxInFlightPerClient = maxInFlightPerClient;
+        // Caffeine: lecturas sin bloqueo y escrituras repartidas en buffers, sin un candado global por petición
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(clientIdleTimeout)
+                .build();
+
+        for (RequestCategory category : RequestCategory.values()) {
+            String tag = category.name().toLowerCase(Locale.ROOT);
+            allowed.put(category, Counter.builder("users.ratelimit.allowed")
+                    .description("Peticiones admitidas por el limitador")
+                    .tag("category", tag)
+                    .register(meterRegistry));
+            Map<Rejection, Counter> reasons = new EnumMap<>(Rejection.class);
+            for (Rejection reason : Rejection.values()) {
+                reasons.put(reason, Counter.builder("users.ratelimit.rejected")
+                        .description("Peticiones rechazadas con 429 por el limitador")
+                        .tag("category", tag)
+                        .tag("reason", reason.tag)
+                        .register(meterRegistry));
+            }
+            rejected.put(category, reasons);
+        }
+        Gauge.builder("users.ratelimit.in_flight", inFlightListings, AtomicInteger::get)
+                .description("Listados en curso")
+                .register(meterRegistry);
+        Gauge.builder("users.ratelimit.clients", clients, Cache::estimatedSize)
+                .description("Clientes con presupuesto activo")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        RequestCategory category = classify(request);
+        if (category == null) {
+            return chain.filter(exchange);
+        }
+        ClientBudget budget = clients.get(clientKey(request), key -> new ClientBudget(System.nanoTime()));
+        Duration wait = budget.bucket(category).tryAcquire(System.nanoTime());
+        if (!wait.isZero()) {
+            return reject(exchange, category, Rejection.RATE, wait);
+        }
+        if (category == RequestCategory.POINT || LONG_LIVED_PATH.matches(request.getPath().pathWithinApplication())) {
+            allowed.get(category).increment();
+            return chain.filter(exchange);
+        }
+
+        if (budget.inFlight.incrementAndGet() > maxInFlightPerClient) {
+            budget.inFlight.decrementAndGet();
+            return reject(exchange, category, Rejection.CLIENT_CONCURRENCY, Duration.ofSeconds(1));
+        }
+        if (inFlightListings.incrementAndGet() > maxInFlightListings) {
+            inFlightListings.decrementAndGet();
+            budget.inFlight.decrementAndGet();
+            return reject(exchange, category, Rejection.CONCURRENCY, Duration.ofSeconds(1));
+        }
+        allowed.get(category).increment();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    inFlightListings.decrementAndGet();
+                    budget.inFlight.decrementAndGet();
+                });
+    }
+
+    /**
+     * @return categoría de la petición, o {@code null} si no está sujeta al límite (preflight CORS, actuator,
+     *         documentación)
+     */
+    static RequestCategory classify(ServerHttpRequest request) {
+        if (HttpMethod.OPTIONS.equals(request.getMethod())) {
+            return null;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        String value = path.value();
+        if (!value.startsWith(API_PATH)) {
+            return null;
+        }
+        if (value.length() == API_PATH.length() || value.equals(API_PATH + "/")) {
+            // GET lista la colección; POST crea un usuario
+            return HttpMethod.GET.equals(request.getMethod()) ? RequestCategory.LISTING : RequestCategory.POINT;
+        }
+        for (PathPattern pattern : LISTING_PATHS) {
+            if (pattern.matches(path)) {
+                return RequestCategory.LISTING;
+            }
+        }
+        return RequestCategory.POINT;
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return UNKNOWN_CLIENT;
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, RequestCategory category, Rejection reason, Duration wait) {
+        rejected.get(category).get(reason).increment();
+        ServerHttpRequest request = exchange.getRequest();
+        log.debug("Petición {} {} rechazada por el limitador ({}, {})",
+                request.getMethod(), request.getPath(), category, reason.tag);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ceilSeconds(wait))));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now().toString())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(reason.message)
+                .path(request.getPath().value())
+                .build();
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+
+    private static long ceilSeconds(Duration wait) {
+        return wait.getSeconds() + (wait.getNano() > 0 ? 1 : 0);
+    }
+
+    private enum Rejection {
+        RATE("rate", "Demasiadas solicitudes; intente nuevamente más tarde"),
+        CLIENT_CONCURRENCY("client_concurrency", "Demasiadas consultas de listado en curso para este cliente"),
+        CONCURRENCY("concurrency", "El servicio está atendiendo el máximo de consultas de listado");
+
+        private final String tag;
+
+        private final String message;
+
+        Rejection(String tag, String message) {
+            this.tag = tag;
+            this.message = message;
+        }
+    }
+
+    private final class ClientBudget {
+
+        private final TokenBucket listing;
+
+        private final TokenBucket point;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private ClientBudget(long nowNanos) {
+            this.listing = new TokenBucket(listingCapacity, listingRefillPerSecond, nowNanos);
+            this.point = new TokenBucket(pointCapacity, pointRefillPerSecond, nowNanos);
+        }
+
+        TokenBucket bucket(RequestCategory category) {
+            return category == RequestCategory.LISTING ? listing : point;
+        }
+    }
+}
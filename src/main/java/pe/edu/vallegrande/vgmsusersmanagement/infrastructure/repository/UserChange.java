@@ -0,0 +1,18 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+/**
+ * Resultado de una actualización atómica: el documento tal como estaba antes de la escritura y tal como
+ * quedó después.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChange {
+
+    private final User previous;
+
+    private final User current;
+}
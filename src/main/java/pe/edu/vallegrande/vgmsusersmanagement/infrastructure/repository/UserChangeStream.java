@@ -0,0 +1,95 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserEvent;
+import reactor.core.publisher.Flux;
+
+import java.util.regex.Pattern;
+
+/**
+ * Change stream de MongoDB sobre la colección de usuarios. Requiere un replica set (o clúster de Atlas).
+ */
+@Component
+public class UserChangeStream {
+
+    private static final String RESUME_DATA = "_data";
+
+    private static final Pattern RESUME_TOKEN = Pattern.compile("[0-9A-Fa-f]+");
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public UserChangeStream(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Cambios posteriores a {@code resumeToken}, o a partir de ahora si es nulo. Un token con formato inválido
+     * se rechaza con {@link IllegalArgumentException}.
+     */
+    public Flux<UserEvent> watch(String resumeToken) {
+        ChangeStreamOptions.ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder()
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("operationType")
+                        .in("insert", "update", "replace", "delete"))));
+        if (resumeToken != null) {
+            options.resumeAfter(decode(resumeToken));
+        }
+        return Flux.defer(() -> mongoTemplate.changeStream(
+                        mongoTemplate.getCollectionName(User.class), options.build(), User.class))
+                .map(this::toEvent);
+    }
+
+    private UserEvent toEvent(ChangeStreamEvent<User> event) {
+        User user = event.getBody();
+        BsonDocument documentKey = event.getRaw() == null ? null : event.getRaw().getDocumentKey();
+        String userId = user != null ? user.getUserId() : documentKey == null ? null : idOf(documentKey);
+        return UserEvent.builder()
+                .type(typeOf(event.getOperationType(), user))
+                .userId(userId)
+                .user(user)
+                .resumeToken(encode(event.getResumeToken()))
+                .occurredAt(event.getTimestamp())
+                .build();
+    }
+
+    private UserEvent.Type typeOf(OperationType operationType, User user) {
+        if (operationType == OperationType.INSERT) {
+            return UserEvent.Type.CREATED;
+        }
+        // Con UPDATE_LOOKUP, una actualización sin documento significa que se eliminó antes de la consulta
+        return operationType == OperationType.DELETE || user == null ? UserEvent.Type.REMOVED : UserEvent.Type.UPDATED;
+    }
+
+    private String idOf(BsonDocument documentKey) {
+        BsonValue id = documentKey.get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    private String encode(BsonValue resumeToken) {
+        if (resumeToken instanceof BsonDocument document && document.isString(RESUME_DATA)) {
+            return document.getString(RESUME_DATA).getValue();
+        }
+        return null;
+    }
+
+    private BsonDocument decode(String resumeToken) {
+        if (!RESUME_TOKEN.matcher(resumeToken).matches()) {
+            throw new IllegalArgumentException("Token de reanudación inválido");
+        }
+        return new BsonDocument(RESUME_DATA, new BsonString(resumeToken));
+    }
+}
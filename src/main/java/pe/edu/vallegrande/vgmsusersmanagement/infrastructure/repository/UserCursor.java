@@ -0,0 +1,55 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de paginación por conjunto de claves (fecha, userId). La fecha es {@code createdAt} en el listado
+ * paginado y {@code updatedAt} en la consulta de cambios. Se expone al cliente como un token opaco en Base64
+ * URL-safe.
+ */
+@Getter
+@AllArgsConstructor
+public class UserCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+
+    private final String userId;
+
+    public static UserCursor of(User user) {
+        return new UserCursor(user.getCreatedAt(), user.getUserId());
+    }
+
+    public static UserCursor ofUpdate(User user) {
+        return new UserCursor(user.getUpdatedAt(), user.getUserId());
+    }
+
+    public String encode() {
+        String raw = (timestamp == null ? "" : timestamp.toString()) + SEPARATOR + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            String timestamp = raw.substring(0, separator);
+            return new UserCursor(
+                    timestamp.isEmpty() ? null : LocalDateTime.parse(timestamp),
+                    raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
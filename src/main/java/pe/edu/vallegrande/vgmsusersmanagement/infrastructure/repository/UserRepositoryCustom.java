@@ -0,0 +1,134 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Los listados, búsquedas, exportaciones y estadísticas se leen con la preferencia de
+ * {@link pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.routing.UserReadRouting} y pueden ir
+ * atrasados respecto del primario; las lecturas por ID y las escrituras siempre van al primario.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Campos de MongoDB que filtra cada consulta de este fragmento, para que {@code UserIndexManager} compruebe
+     * que un índice las cubre igual que a los métodos derivados de {@link UserRepository}. Mantener al día al
+     * añadir una consulta con filtro.
+     */
+    Map<String, List<String>> QUERY_FIELDS = Map.of(
+            "listByStatus", List.of("status"),
+            "listByInstitution", List.of("institutionId"),
+            "searchByPrefix", List.of("searchKeys"),
+            "searchExact", List.of("searchKeys"),
+            "findChangedSince", List.of("updatedAt"));
+
+    Flux<User> listAll();
+
+    /**
+     * Todos los usuarios como la proyección {@code view}; solo se leen de MongoDB los campos de la proyección.
+     */
+    <T> Flux<T> listAll(Class<T> view);
+
+    Flux<User> listByStatus(UserStatus status);
+
+    <T> Flux<T> listByStatus(UserStatus status, Class<T> view);
+
+    Flux<User> listByInstitution(String institutionId);
+
+    /**
+     * Usuario por ID dentro de una institución; incluir la clave de partición permite que mongos consulte un solo
+     * shard. Vacío si el usuario no existe o pertenece a otra institución.
+     */
+    Mono<User> findByIdInTenant(String userId, String institutionId);
+
+    /**
+     * Devuelve hasta {@code limit} usuarios ordenados por (createdAt, userId) descendente, posteriores a
+     * {@code after}. Los filtros nulos se ignoran.
+     */
+    Flux<User> findPage(UserStatus status, UserRole role, String institutionId, UserCursor after, int limit);
+
+    /**
+     * Cursor de exportación ordenado por ID ascendente, posterior a {@code afterId} si no es nulo, con lotes de
+     * {@code batchSize} documentos por viaje al servidor. Los filtros nulos se ignoran.
+     */
+    Flux<User> streamForExport(UserStatus status, UserRole role, String institutionId, String afterId, int batchSize);
+
+    /**
+     * Usuarios modificados después de {@code since} (o de la posición {@code after}, que tiene prioridad),
+     * ordenados por (updatedAt, userId) ascendente para sincronización incremental.
+     */
+    Flux<User> findChangedSince(LocalDateTime since, UserCursor after, int limit);
+
+    /**
+     * Inserta los usuarios en un único {@code bulkWrite} no ordenado. Devuelve los errores por posición dentro
+     * de {@code users}; una lista vacía significa que todos se insertaron.
+     */
+    Mono<List<BulkWriteError>> insertUnordered(List<User> users);
+
+    /**
+     * Inserta {@code user} salvo que ya exista un usuario con su {@code idempotencyKey}, en un único
+     * {@code findAndModify} con upsert y {@code $setOnInsert}. En modo particionado la clave es única por
+     * institución. Devuelve el usuario existente, o vacío si se
+     * insertó. Los duplicados por otros índices únicos se emiten como
+     * {@link org.springframework.dao.DuplicateKeyException}.
+     */
+    Mono<User> insertIfAbsent(User user);
+
+    /**
+     * Aplica {@code $set} solo sobre los campos indicados (nombres de propiedad de {@link User}); los valores
+     * nulos se eliminan con {@code $unset}, así los índices dispersos no los indexan. Actualiza {@code updatedAt} e incrementa la versión en una sola operación atómica. Si {@code expectedVersion} no es
+     * nulo y no coincide, se emite {@link org.springframework.dao.OptimisticLockingFailureException}.
+     * Devuelve el documento antes y después de la escritura, o vacío si no existe.
+     */
+    Mono<UserChange> updateFields(String userId, Map<String, Object> fields, Long expectedVersion);
+
+    Mono<UserChange> updateStatus(String userId, UserStatus status);
+
+    /**
+     * Usuarios cuyas claves de búsqueda comienzan por cada uno de los términos normalizados.
+     */
+    Flux<User> searchByPrefix(List<String> terms, int limit);
+
+    /**
+     * Usuarios con una clave de búsqueda igual al primer término (usuario, documento, correo, nombre completo)
+     * que además cumplen el prefijo de los demás. Es una igualdad sobre el índice, así que no compite con los
+     * candidatos por prefijo cuando el término es común.
+     */
+    Flux<User> searchExact(List<String> terms, int limit);
+
+    /**
+     * Calcula las claves de búsqueda de los documentos que aún no las tienen. Devuelve cuántos se actualizaron.
+     */
+    Mono<Long> backfillSearchKeys(int batchSize);
+
+    /**
+     * Conteos por rol, estado e institución calculados con un único {@code $facet} de agregaciones
+     * {@code $group} en el servidor, leídos con la preferencia de los listados.
+     */
+    Mono<UserStatistics> aggregateStatistics();
+
+    /**
+     * Igual que {@link #aggregateStatistics()}, pero con {@code primary} se lee siempre del primario: quien
+     * persiste el resultado (los contadores) no puede partir de un secundario atrasado.
+     */
+    Mono<UserStatistics> aggregateStatistics(boolean primary);
+
+    /**
+     * Validador del listado de usuarios con {@code status} (todos si es nulo): el conteo sale del índice o de los
+     * metadatos de la colección y el mayor {@code updatedAt} del índice {@code sync_updatedAt}, sin leer documentos
+     * completos. El {@code updatedAt} es el de toda la colección, así que cambia también con escrituras ajenas al
+     * filtro, pero siempre cambia cuando el listado cambia. Vacío si el listado se lee de secundarios y la última
+     * escritura es más reciente que el atraso máximo admitido: el nodo del listado podría no tenerla aún.
+     */
+    Mono<UserCollectionVersion> collectionVersion(UserStatus status);
+}
@@ -0,0 +1,428 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserSearchKeys;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.routing.UserReadRouting;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.UserTenancy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String ID = "_id";
+
+    private static final String CREATED_AT = "createdAt";
+
+    private static final String UPDATED_AT = "updatedAt";
+
+    private static final String VERSION = "version";
+
+    private static final String SEARCH_KEYS = "searchKeys";
+
+    private static final String IDEMPOTENCY_KEY = "idempotencyKey";
+
+    private static final String ROLE = "role";
+
+    private static final String STATUS = "status";
+
+    private static final String INSTITUTION_ID = "institutionId";
+
+    private static final String COUNT = "count";
+
+    private static final String TOTAL = "total";
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("([^a-z0-9])");
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final UserTenancy tenancy;
+
+    private final UserReadRouting routing;
+
+    public UserRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate, UserTenancy tenancy,
+                                    UserReadRouting routing) {
+        this.mongoTemplate = mongoTemplate;
+        this.tenancy = tenancy;
+        this.routing = routing;
+    }
+
+    @Override
+    public Flux<User> listAll() {
+        return routing.listings().findAll(User.class);
+    }
+
+    @Override
+    public <T> Flux<T> listAll(Class<T> view) {
+        return routing.listings().query(User.class).as(view).all();
+    }
+
+    @Override
+    public Flux<User> listByStatus(UserStatus status) {
+        return routing.listings().find(Query.query(Criteria.where(STATUS).is(status)), User.class);
+    }
+
+    @Override
+    public <T> Flux<T> listByStatus(UserStatus status, Class<T> view) {
+        return routing.listings().query(User.class).as(view)
+                .matching(Query.query(Criteria.where(STATUS).is(status)))
+                .all();
+    }
+
+    @Override
+    public Flux<User> listByInstitution(String institutionId) {
+        return routing.listings().find(tenancy.scoped(new Query(), institutionId), User.class);
+    }
+
+    @Override
+    public Mono<User> findByIdInTenant(String userId, String institutionId) {
+        return mongoTemplate.findOne(tenancy.scoped(byId(userId), institutionId), User.class);
+    }
+
+    @Override
+    public Flux<User> findPage(UserStatus status, UserRole role, String institutionId, UserCursor after, int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        if (institutionId != null) {
+            filters.add(Criteria.where("institutionId").is(institutionId));
+        }
+        if (status != null) {
+            filters.add(Criteria.where("status").is(status));
+        }
+        if (role != null) {
+            filters.add(Criteria.where("role").is(role));
+        }
+        if (after != null) {
+            filters.add(after(after));
+        }
+
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.DESC, CREATED_AT, ID))
+                .limit(limit);
+        if (!filters.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(filters));
+        }
+        return routing.listings().find(query, User.class);
+    }
+
+    @Override
+    public Flux<User> streamForExport(UserStatus status, UserRole role, String institutionId, String afterId,
+                                      int batchSize) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, ID))
+                .cursorBatchSize(batchSize)
+                .allowDiskUse(true);
+        if (institutionId != null) {
+            query.addCriteria(Criteria.where(INSTITUTION_ID).is(institutionId));
+        }
+        if (status != null) {
+            query.addCriteria(Criteria.where(STATUS).is(status));
+        }
+        if (role != null) {
+            query.addCriteria(Criteria.where(ROLE).is(role));
+        }
+        if (afterId != null) {
+            query.addCriteria(exportedAfter(afterId));
+        }
+        query.fields().exclude(SEARCH_KEYS, IDEMPOTENCY_KEY);
+        return routing.listings().find(query, User.class);
+    }
+
+    @Override
+    public Flux<User> findChangedSince(LocalDateTime since, UserCursor after, int limit) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, UPDATED_AT, ID))
+                .limit(limit);
+        if (after != null) {
+            query.addCriteria(changedAfter(after));
+        } else if (since != null) {
+            query.addCriteria(Criteria.where(UPDATED_AT).gt(since));
+        }
+        return mongoTemplate.find(query, User.class);
+    }
+
+    @Override
+    public Mono<List<BulkWriteError>> insertUnordered(List<User> users) {
+        List<WriteModel<Document>> inserts = users.stream()
+                .<WriteModel<Document>>map(user -> {
+                    Document document = new Document();
+                    mongoTemplate.getConverter().write(user, document);
+                    return new InsertOneModel<>(document);
+                })
+                .toList();
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class))
+                .flatMap(collection -> Mono.from(
+                        collection.bulkWrite(inserts, new BulkWriteOptions().ordered(false))))
+                .map(result -> List.<BulkWriteError>of())
+                .onErrorResume(MongoBulkWriteException.class, error -> Mono.just(error.getWriteErrors()));
+    }
+
+    @Override
+    public Mono<User> insertIfAbsent(User user) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(user, document);
+        // La clave (y la institución en modo particionado) ya forma parte del documento insertado por la
+        // igualdad del filtro
+        document.remove(IDEMPOTENCY_KEY);
+        if (tenancy.sharded()) {
+            document.remove(INSTITUTION_ID);
+        }
+        Update update = new Update();
+        document.forEach(update::setOnInsert);
+        return mongoTemplate.findAndModify(
+                tenancy.upsertScope(Query.query(Criteria.where(IDEMPOTENCY_KEY).is(user.getIdempotencyKey())),
+                        user.getInstitutionId()),
+                update,
+                FindAndModifyOptions.options().upsert(true).returnNew(false),
+                User.class);
+    }
+
+    @Override
+    public Mono<UserChange> updateFields(String userId, Map<String, Object> fields, Long expectedVersion) {
+        Query query = byId(userId);
+        if (expectedVersion != null) {
+            query.addCriteria(versionIs(expectedVersion));
+        }
+        Update update = new Update();
+        fields.forEach((field, value) -> {
+            if (value == null) {
+                update.unset(field);
+            } else {
+                update.set(field, value);
+            }
+        });
+        Mono<UserChange> updated = modify(query, update);
+        if (expectedVersion == null) {
+            return updated;
+        }
+        // Solo en el caso de fallo se distingue entre "no existe" y "otra escritura ganó"
+        return updated.switchIfEmpty(Mono.defer(() -> mongoTemplate.exists(byId(userId), User.class)
+                .flatMap(exists -> exists
+                        ? Mono.error(new OptimisticLockingFailureException(
+                        "El usuario " + userId + " fue modificado por otra operación (versión esperada "
+                                + expectedVersion + ")"))
+                        : Mono.empty())));
+    }
+
+    @Override
+    public Mono<UserChange> updateStatus(String userId, UserStatus status) {
+        return modify(byId(userId), Update.update("status", status));
+    }
+
+    @Override
+    public Flux<User> searchByPrefix(List<String> terms, int limit) {
+        Query query = Query.query(Criteria.where(SEARCH_KEYS).all(prefixes(terms))).limit(limit);
+        return routing.listings().find(query, User.class);
+    }
+
+    @Override
+    public Flux<User> searchExact(List<String> terms, int limit) {
+        Criteria exact = Criteria.where(SEARCH_KEYS).is(terms.get(0));
+        Query query = Query.query(terms.size() == 1
+                        ? exact
+                        : new Criteria().andOperator(exact, Criteria.where(SEARCH_KEYS).all(prefixes(terms))))
+                .limit(limit);
+        return routing.listings().find(query, User.class);
+    }
+
+    private Object[] prefixes(List<String> terms) {
+        return terms.stream()
+                .map(term -> Pattern.compile("^" + NON_ALPHANUMERIC.matcher(term).replaceAll("\\\\$1")))
+                .toArray();
+    }
+
+    @Override
+    public Mono<Long> backfillSearchKeys(int batchSize) {
+        Query missing = Query.query(Criteria.where(SEARCH_KEYS).exists(false));
+        return mongoTemplate.find(missing, User.class)
+                .map(user -> new UpdateOneModel<Document>(
+                        new Document(ID, toId(user.getUserId())),
+                        Updates.set(SEARCH_KEYS, UserSearchKeys.of(user))))
+                .buffer(batchSize)
+                .concatMap(updates -> mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class))
+                        .flatMap(collection -> Mono.from(
+                                collection.bulkWrite(updates, new BulkWriteOptions().ordered(false))))
+                        .map(result -> (long) result.getModifiedCount()))
+                .reduce(0L, Long::sum);
+    }
+
+    @Override
+    public Mono<UserStatistics> aggregateStatistics() {
+        return aggregateStatistics(false);
+    }
+
+    @Override
+    public Mono<UserStatistics> aggregateStatistics(boolean primary) {
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation
+                .facet(Aggregation.group(ROLE).count().as(COUNT)).as(ROLE)
+                .and(Aggregation.group(STATUS).count().as(COUNT)).as(STATUS)
+                .and(Aggregation.group(INSTITUTION_ID).count().as(COUNT)).as(INSTITUTION_ID)
+                .and(Aggregation.count().as(COUNT)).as(TOTAL));
+        return (primary ? mongoTemplate : routing.listings())
+                .aggregate(aggregation, mongoTemplate.getCollectionName(User.class), Document.class)
+                .next()
+                .map(facets -> UserStatistics.builder()
+                        .total(facets.getList(TOTAL, Document.class).stream()
+                                .mapToLong(total -> total.get(COUNT, Number.class).longValue())
+                                .sum())
+                        .byRole(groupCounts(facets, ROLE))
+                        .byStatus(groupCounts(facets, STATUS))
+                        .byInstitution(groupCounts(facets, INSTITUTION_ID))
+                        .source(UserStatistics.Source.AGGREGATION)
+                        .generatedAt(LocalDateTime.now())
+                        .build());
+    }
+
+    @Override
+    public Mono<UserCollectionVersion> collectionVersion(UserStatus status) {
+        Query latest = new Query().with(Sort.by(Sort.Direction.DESC, UPDATED_AT)).limit(1);
+        latest.fields().include(UPDATED_AT);
+        ReactiveMongoTemplate listings = routing.listings();
+        Mono<Optional<LocalDateTime>> lastUpdatedAt = listings.findOne(latest, User.class)
+                .mapNotNull(User::getUpdatedAt)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<Long> count = status == null
+                ? listings.estimatedCount(User.class)
+                : listings.count(Query.query(Criteria.where(STATUS).is(status)), User.class);
+        return Mono.zip(count, lastUpdatedAt)
+                .map(version -> new UserCollectionVersion(version.getT1(), version.getT2().orElse(null)))
+                .filter(version -> routing.validatorSafe(version.getLastUpdatedAt()));
+    }
+
+    /**
+     * Se lee el documento previo ({@code returnNew(false)}) y el resultado se reconstruye aplicando el mismo
+     * {@code $set} y {@code $unset} en memoria, así se obtienen ambos estados en una sola operación atómica.
+     */
+    private Mono<UserChange> modify(Query query, Update update) {
+        update.set(UPDATED_AT, LocalDateTime.now()).inc(VERSION, 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(false), User.class)
+                .map(previous -> new UserChange(previous, applied(previous, update)));
+    }
+
+    private User applied(User previous, Update update) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        Document document = new Document();
+        converter.write(previous, document);
+        update.getUpdateObject().get("$set", Document.class)
+                .forEach((field, value) -> document.put(field, converter.convertToMongoType(value)));
+        Document unset = update.getUpdateObject().get("$unset", Document.class);
+        if (unset != null) {
+            unset.keySet().forEach(document::remove);
+        }
+        document.put(VERSION, (previous.getVersion() == null ? 0L : previous.getVersion()) + 1);
+        return converter.read(User.class, document);
+    }
+
+    private Map<String, Long> groupCounts(Document facets, String facet) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Document group : facets.getList(facet, Document.class)) {
+            Object key = group.get(ID);
+            counts.put(key == null ? UserStatistics.UNASSIGNED : key.toString(),
+                    group.get(COUNT, Number.class).longValue());
+        }
+        return counts;
+    }
+
+    private Query byId(String userId) {
+        return Query.query(Criteria.where("userId").is(userId));
+    }
+
+    /**
+     * Los documentos creados antes de introducir la versión no tienen el campo y equivalen a la versión 0.
+     */
+    private Criteria versionIs(long expectedVersion) {
+        if (expectedVersion == 0) {
+            return new Criteria().orOperator(
+                    Criteria.where(VERSION).is(0L),
+                    Criteria.where(VERSION).exists(false));
+        }
+        return Criteria.where(VERSION).is(expectedVersion);
+    }
+
+    /**
+     * Condición de "siguiente página" para el orden (createdAt desc, _id desc). Los documentos sin createdAt
+     * se ordenan al final, por lo que siguen a cualquier cursor con fecha.
+     */
+    private Criteria after(UserCursor cursor) {
+        Object id = toId(cursor.getUserId());
+        if (cursor.getTimestamp() == null) {
+            return new Criteria().andOperator(
+                    Criteria.where(CREATED_AT).is(null),
+                    Criteria.where(ID).lt(id));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(CREATED_AT).lt(cursor.getTimestamp()),
+                new Criteria().andOperator(
+                        Criteria.where(CREATED_AT).is(cursor.getTimestamp()),
+                        Criteria.where(ID).lt(id)),
+                Criteria.where(CREATED_AT).is(null));
+    }
+
+    /**
+     * Condición de "siguiente página" para el orden (updatedAt asc, _id asc). Los documentos sin updatedAt
+     * quedan al inicio y solo se devuelven en la primera página sin {@code since}.
+     */
+    private Criteria changedAfter(UserCursor cursor) {
+        Object id = toId(cursor.getUserId());
+        if (cursor.getTimestamp() == null) {
+            return new Criteria().orOperator(
+                    new Criteria().andOperator(
+                            Criteria.where(UPDATED_AT).is(null),
+                            Criteria.where(ID).gt(id)),
+                    Criteria.where(UPDATED_AT).ne(null));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(UPDATED_AT).gt(cursor.getTimestamp()),
+                new Criteria().andOperator(
+                        Criteria.where(UPDATED_AT).is(cursor.getTimestamp()),
+                        Criteria.where(ID).gt(id)));
+    }
+
+    /**
+     * En el orden de BSON los {@code _id} de texto van antes que los ObjectId, y {@code $gt} solo compara
+     * valores del mismo tipo: al reanudar después de un ID de texto hay que incluir también todos los ObjectId.
+     */
+    private Criteria exportedAfter(String afterId) {
+        Object id = toId(afterId);
+        if (id instanceof ObjectId) {
+            return Criteria.where(ID).gt(id);
+        }
+        return new Criteria().orOperator(
+                Criteria.where(ID).gt(id),
+                Criteria.where(ID).type(JsonSchemaObject.Type.OBJECT_ID));
+    }
+
+    private Object toId(String userId) {
+        return ObjectId.isValid(userId) ? new ObjectId(userId) : userId;
+    }
+}
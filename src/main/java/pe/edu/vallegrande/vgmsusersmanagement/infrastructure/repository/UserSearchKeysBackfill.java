@@ -0,0 +1,42 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Completa las claves de búsqueda de los documentos creados antes de que existiera el campo
+ * {@code searchKeys}. Se activa con {@code users.search.backfill-on-startup=true} y no bloquea el arranque. La
+ * propiedad se lee al arrancar, no como condición del bean, para que también funcione en la imagen AOT.
+ */
+@Component
+@Slf4j
+public class UserSearchKeysBackfill implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+
+    private final int batchSize;
+
+    private final boolean backfillOnStartup;
+
+    public UserSearchKeysBackfill(UserRepository userRepository,
+                                  @Value("${users.search.backfill-batch-size:500}") int batchSize,
+                                  @Value("${users.search.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillOnStartup) {
+            return;
+        }
+        userRepository.backfillSearchKeys(batchSize)
+                .subscribe(
+                        updated -> log.info("Claves de búsqueda completadas en {} usuarios", updated),
+                        error -> log.error("Error al completar claves de búsqueda: {}", error.getMessage(), error));
+    }
+}
@@ -0,0 +1,220 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contadores en la colección {@code user_counters}, un documento por valor de cada dimensión
+ * ({@code role:ADMIN}, {@code status:ACTIVE}, {@code institution:<id>}) más el total. Cada escritura de
+ * usuario aplica un {@code $inc} con upsert por cada contador afectado, en un único {@code bulkWrite}.
+ * <p>
+ * La actualización no es transaccional con la escritura del usuario: si falla se registra y los contadores
+ * pueden desviarse hasta la siguiente reconstrucción, que se hace al arrancar cuando no existen o si
+ * {@code users.statistics.rebuild-on-startup=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "users.statistics.mode", havingValue = "counters")
+@Slf4j
+public class MongoUserCounters implements UserCounters, ApplicationRunner {
+
+    private static final String COLLECTION = "user_counters";
+
+    private static final String ID = "_id";
+
+    private static final String DIMENSION = "dimension";
+
+    private static final String KEY = "key";
+
+    private static final String COUNT = "count";
+
+    private static final String TOTAL = "total";
+
+    private static final String ROLE = "role";
+
+    private static final String STATUS = "status";
+
+    private static final String INSTITUTION = "institution";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final UserRepository userRepository;
+
+    private final boolean rebuildOnStartup;
+
+    public MongoUserCounters(ReactiveMongoTemplate mongoTemplate,
+                             UserRepository userRepository,
+                             @Value("${users.statistics.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public Mono<Void> record(User previous, User current) {
+        Map<String, Long> deltas = new HashMap<>();
+        add(deltas, previous, -1);
+        add(deltas, current, 1);
+        return apply(deltas);
+    }
+
+    @Override
+    public Mono<Void> recordCreated(List<User> users) {
+        Map<String, Long> deltas = new HashMap<>();
+        users.forEach(user -> add(deltas, user, 1));
+        return apply(deltas);
+    }
+
+    @Override
+    public Mono<UserStatistics> read() {
+        return mongoTemplate.findAll(Document.class, COLLECTION)
+                .collectList()
+                .filter(counters -> counters.stream().anyMatch(counter -> TOTAL.equals(counter.get(ID))))
+                .map(this::toStatistics);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        mongoTemplate.exists(Query.query(Criteria.where(ID).is(TOTAL)), COLLECTION)
+                .filter(exists -> rebuildOnStartup || !exists)
+                .flatMap(rebuild -> rebuild())
+                .subscribe(
+                        counters -> log.info("Contadores de usuarios reconstruidos: {} contadores", counters),
+                        error -> log.error("Error al reconstruir contadores de usuarios: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Reemplaza todos los contadores con una agregación sobre el primario y elimina los que ya no tienen
+     * usuarios. Devuelve cuántos contadores se escribieron.
+     */
+    public Mono<Integer> rebuild() {
+        return userRepository.aggregateStatistics(true)
+                .flatMap(statistics -> {
+                    Map<String, Long> counts = new HashMap<>();
+                    counts.put(TOTAL, statistics.getTotal());
+                    statistics.getByRole().forEach((role, count) -> counts.put(counterId(ROLE, role), count));
+                    statistics.getByStatus().forEach((status, count) -> counts.put(counterId(STATUS, status), count));
+                    statistics.getByInstitution()
+                            .forEach((institution, count) -> counts.put(counterId(INSTITUTION, institution), count));
+                    List<WriteModel<Document>> replacements = new ArrayList<>(counts.size());
+                    counts.forEach((id, count) -> replacements.add(new ReplaceOneModel<>(
+                            Filters.eq(ID, id), counter(id, count), new ReplaceOptions().upsert(true))));
+                    return mongoTemplate.getCollection(COLLECTION)
+                            .flatMap(collection -> Mono.from(collection.bulkWrite(replacements,
+                                            new BulkWriteOptions().ordered(false)))
+                                    .then(Mono.from(collection.deleteMany(Filters.nin(ID, counts.keySet())))))
+                            .thenReturn(counts.size());
+                });
+    }
+
+    private void add(Map<String, Long> deltas, User user, long sign) {
+        if (user == null) {
+            return;
+        }
+        deltas.merge(TOTAL, sign, Long::sum);
+        deltas.merge(counterId(ROLE, user.getRole() == null ? null : user.getRole().name()), sign, Long::sum);
+        deltas.merge(counterId(STATUS, user.getStatus() == null ? null : user.getStatus().name()), sign, Long::sum);
+        deltas.merge(counterId(INSTITUTION, user.getInstitutionId()), sign, Long::sum);
+    }
+
+    private Mono<Void> apply(Map<String, Long> deltas) {
+        List<WriteModel<Document>> increments = new ArrayList<>();
+        deltas.forEach((id, delta) -> {
+            if (delta != 0) {
+                increments.add(new UpdateOneModel<>(
+                        Filters.eq(ID, id),
+                        Updates.combine(
+                                Updates.inc(COUNT, delta),
+                                Updates.setOnInsert(DIMENSION, dimensionOf(id)),
+                                Updates.setOnInsert(KEY, keyOf(id))),
+                        new UpdateOptions().upsert(true)));
+            }
+        });
+        if (increments.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.getCollection(COLLECTION)
+                .flatMap(collection -> Mono.from(collection.bulkWrite(increments, new BulkWriteOptions().ordered(false))))
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("No se pudieron actualizar los contadores de usuarios: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private UserStatistics toStatistics(List<Document> counters) {
+        long total = 0;
+        Map<String, Long> byRole = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byInstitution = new TreeMap<>();
+        for (Document counter : counters) {
+            long count = counter.get(COUNT, Number.class).longValue();
+            String dimension = counter.getString(DIMENSION);
+            if (TOTAL.equals(dimension)) {
+                total = count;
+            } else if (count > 0) {
+                switch (dimension) {
+                    case ROLE -> byRole.put(counter.getString(KEY), count);
+                    case STATUS -> byStatus.put(counter.getString(KEY), count);
+                    case INSTITUTION -> byInstitution.put(counter.getString(KEY), count);
+                    default -> log.debug("Contador desconocido ignorado: {}", counter.get(ID));
+                }
+            }
+        }
+        return UserStatistics.builder()
+                .total(total)
+                .byRole(byRole)
+                .byStatus(byStatus)
+                .byInstitution(byInstitution)
+                .source(UserStatistics.Source.COUNTERS)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static String counterId(String dimension, String value) {
+        return dimension + ":" + (value == null ? UserStatistics.UNASSIGNED : value);
+    }
+
+    private static String dimensionOf(String counterId) {
+        int separator = counterId.indexOf(':');
+        return separator < 0 ? counterId : counterId.substring(0, separator);
+    }
+
+    private static String keyOf(String counterId) {
+        int separator = counterId.indexOf(':');
+        return separator < 0 ? counterId : counterId.substring(separator + 1);
+    }
+
+    private static Document counter(String id, long count) {
+        return new Document(ID, id)
+                .append(DIMENSION, dimensionOf(id))
+                .append(KEY, keyOf(id))
+                .append(COUNT, count);
+    }
+}
@@ -0,0 +1,32 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Modo por defecto: no mantiene contadores y las estadísticas se calculan por agregación.
+ */
+@Component
+@ConditionalOnProperty(name = "users.statistics.mode", havingValue = "aggregation", matchIfMissing = true)
+public class NoOpUserCounters implements UserCounters {
+
+    @Override
+    public Mono<Void> record(User previous, User current) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> recordCreated(List<User> users) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<UserStatistics> read() {
+        return Mono.empty();
+    }
+}
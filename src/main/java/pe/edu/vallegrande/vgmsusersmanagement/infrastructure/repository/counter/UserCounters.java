@@ -0,0 +1,26 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter;
+
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Contadores materializados de usuarios por rol, estado e institución, mantenidos en cada escritura para que
+ * la lectura de estadísticas no recorra la colección.
+ */
+public interface UserCounters {
+
+    /**
+     * Aplica la diferencia entre {@code previous} y {@code current}; {@code previous} es nulo en una creación.
+     */
+    Mono<Void> record(User previous, User current);
+
+    Mono<Void> recordCreated(List<User> users);
+
+    /**
+     * Estadísticas a partir de los contadores, o vacío si aún no están disponibles.
+     */
+    Mono<UserStatistics> read();
+}
@@ -0,0 +1,10 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.index;
+
+public enum IndexMode {
+    /** No se revisan los índices al iniciar. */
+    DISABLED,
+    /** Se compara lo declarado con la colección y solo se reporta. */
+    DRY_RUN,
+    /** Se reporta y además se crean los índices faltantes. */
+    APPLY;
+}
@@ -0,0 +1,263 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepositoryCustom;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.UserTenancy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reconcilia los índices declarados en {@link User} (anotaciones {@code @Indexed} / {@code @CompoundIndex})
+ * con los existentes en la colección, sin depender de {@code auto-index-creation}. En modo
+ * {@link IndexMode#DRY_RUN} solo reporta; en {@link IndexMode#APPLY} crea los índices faltantes. Un índice con el
+ * mismo nombre pero otras claves u opciones ({@code unique}, {@code sparse}, filtro parcial) se reporta como
+ * distinto. Los índices sobrantes o con definición distinta nunca se eliminan automáticamente.
+ */
+@Component
+@Slf4j
+public class UserIndexManager implements ApplicationRunner {
+
+    private static final String DEFAULT_ID_INDEX = "_id_";
+
+    private static final String PARTIAL_FILTER = "partialFilterExpression";
+
+    private static final Set<String> QUERY_PREFIXES = Set.of("findBy", "countBy", "existsBy", "streamBy");
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+
+    private final IndexMode mode;
+
+    private final UserTenancy tenancy;
+
+    public UserIndexManager(ReactiveMongoTemplate mongoTemplate,
+                            @Value("${users.mongodb.indexes.mode:DRY_RUN}") IndexMode mode,
+                            UserTenancy tenancy) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mongoTemplate.getConverter().getMappingContext();
+        this.mode = mode;
+        this.tenancy = tenancy;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (mode == IndexMode.DISABLED) {
+            return;
+        }
+        reconcile().subscribe(
+                created -> log.info("Reconciliación de índices de 'users' finalizada ({}): {} índices creados",
+                        mode, created.size()),
+                error -> log.error("No se pudo reconciliar los índices de 'users': {}", error.getMessage()));
+    }
+
+    /**
+     * Ejecuta la reconciliación y devuelve los nombres de los índices creados (vacío en DRY_RUN).
+     */
+    public Mono<List<String>> reconcile() {
+        ReactiveIndexOperations indexOps = mongoTemplate.indexOps(User.class);
+        List<IndexDefinition> declared = declaredIndexes();
+        return indexOps.getIndexInfo()
+                .collectMap(IndexInfo::getName)
+                .flatMap(live -> {
+                    List<IndexDefinition> missing = new ArrayList<>();
+                    for (IndexDefinition definition : declared) {
+                        String name = nameOf(definition);
+                        IndexInfo existing = live.get(name);
+                        if (existing == null) {
+                            missing.add(definition);
+                        } else if (!sameDefinition(definition, existing)) {
+                            log.warn("Índice '{}' con definición distinta: declarado {} {} / existente {} {}",
+                                    name, keysOf(definition.getIndexKeys()), optionsOf(definition),
+                                    liveKeysOf(existing), liveOptionsOf(existing));
+                        }
+                    }
+                    Set<String> declaredNames = declared.stream().map(this::nameOf).collect(Collectors.toSet());
+                    live.keySet().stream()
+                            .filter(name -> !DEFAULT_ID_INDEX.equals(name) && !declaredNames.contains(name))
+                            .forEach(name -> log.warn("Índice '{}' existe en 'users' pero no está declarado", name));
+                    missing.forEach(definition -> log.warn("Índice '{}' declarado pero ausente: {} {}",
+                            nameOf(definition), definition.getIndexKeys(), definition.getIndexOptions()));
+
+                    Mono<List<String>> created = mode == IndexMode.APPLY
+                            ? Flux.fromIterable(missing).concatMap(definition -> create(indexOps, definition)).collectList()
+                            : Mono.just(List.of());
+                    return created.doOnNext(names -> {
+                        Map<String, Map<String, Integer>> effective = new LinkedHashMap<>();
+                        live.forEach((name, info) -> effective.put(name, liveKeysOf(info)));
+                        if (mode == IndexMode.APPLY) {
+                            missing.forEach(definition ->
+                                    effective.put(nameOf(definition), keysOf(definition.getIndexKeys())));
+                        }
+                        reportUncoveredQueries(effective.values());
+                    });
+                });
+    }
+
+    /**
+     * Un índice que no se puede crear (p. ej. único con duplicados existentes) no impide crear los demás.
+     */
+    private Mono<String> create(ReactiveIndexOperations indexOps, IndexDefinition definition) {
+        return indexOps.ensureIndex(definition)
+                .doOnNext(name -> log.info("Índice '{}' creado en 'users'", name))
+                .onErrorResume(error -> {
+                    log.error("No se pudo crear el índice '{}': {}", nameOf(definition), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Índices de las anotaciones de {@link User}; en modo particionado los únicos se declaran por institución.
+     */
+    public List<IndexDefinition> declaredIndexes() {
+        List<IndexDefinition> definitions = new ArrayList<>();
+        new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(User.class)
+                .forEach(definitions::add);
+        return tenancy.indexes(definitions);
+    }
+
+    /**
+     * Un método derivado de {@link UserRepository}, o una consulta declarada en
+     * {@link UserRepositoryCustom#QUERY_FIELDS}, se considera cubierto cuando algún índice comienza por uno de los
+     * campos de su criterio.
+     */
+    private void reportUncoveredQueries(Iterable<Map<String, Integer>> indexes) {
+        Set<String> leadingFields = new HashSet<>();
+        indexes.forEach(keys -> keys.keySet().stream().findFirst().ifPresent(leadingFields::add));
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(User.class);
+
+        Map<String, List<String>> uncovered = new TreeMap<>();
+        for (Method method : UserRepository.class.getDeclaredMethods()) {
+            List<String> fields = queryFields(method.getName(), entity);
+            if (!fields.isEmpty() && fields.stream().noneMatch(leadingFields::contains)) {
+                uncovered.put(method.getName(), fields);
+            }
+        }
+        UserRepositoryCustom.QUERY_FIELDS.forEach((method, fields) -> {
+            if (fields.stream().noneMatch(leadingFields::contains)) {
+                uncovered.put(method, fields);
+            }
+        });
+        if (uncovered.isEmpty()) {
+            log.info("Todas las consultas de UserRepository están cubiertas por un índice");
+        } else {
+            uncovered.forEach((method, fields) ->
+                    log.warn("UserRepository.{} no está cubierto por un índice (campos {})", method, fields));
+        }
+    }
+
+    private List<String> queryFields(String methodName, MongoPersistentEntity<?> entity) {
+        String prefix = QUERY_PREFIXES.stream().filter(methodName::startsWith).findFirst().orElse(null);
+        if (prefix == null) {
+            return List.of();
+        }
+        String criteria = methodName.substring(prefix.length()).split("OrderBy")[0];
+        return Arrays.stream(criteria.split("(?<=[a-z0-9])(And|Or)(?=[A-Z])"))
+                .filter(StringUtils::hasText)
+                .map(part -> part.replaceAll(
+                        "(GreaterThanEqual|GreaterThan|LessThanEqual|LessThan|Between|In|NotIn|IsNull|IsNotNull|"
+                                + "Not|Like|StartingWith|EndingWith|Containing|Exists|True|False|Before|After)$", ""))
+                .map(StringUtils::uncapitalize)
+                .map(property -> {
+                    MongoPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+                    return persistentProperty == null ? property : persistentProperty.getFieldName();
+                })
+                .toList();
+    }
+
+    private String nameOf(IndexDefinition definition) {
+        Object name = definition.getIndexOptions().get("name");
+        return name != null ? name.toString() : defaultName(definition.getIndexKeys());
+    }
+
+    /**
+     * Nombre que MongoDB asigna cuando no se indica uno explícito, p. ej. {@code status_1_createdAt_-1}.
+     */
+    private String defaultName(Document keys) {
+        return keysOf(keys).entrySet().stream()
+                .map(entry -> entry.getKey() + "_" + entry.getValue())
+                .collect(Collectors.joining("_"));
+    }
+
+    /**
+     * Mismas claves en el mismo orden y mismas opciones {@code unique}, {@code sparse} y
+     * {@code partialFilterExpression}: un {@code userName_unique} que no es único no cumple lo declarado aunque
+     * indexe los mismos campos.
+     */
+    static boolean sameDefinition(IndexDefinition declared, IndexInfo live) {
+        return sameKeys(keysOf(declared.getIndexKeys()), liveKeysOf(live))
+                && optionsOf(declared).equals(liveOptionsOf(live));
+    }
+
+    /**
+     * El orden de las claves es parte de la definición del índice, por eso no basta con {@code Map.equals}.
+     */
+    private static boolean sameKeys(Map<String, Integer> left, Map<String, Integer> right) {
+        return List.copyOf(left.entrySet()).equals(List.copyOf(right.entrySet()));
+    }
+
+    /**
+     * El filtro parcial se compara como JSON normalizado, ya que el servidor lo devuelve como texto.
+     */
+    private static Map<String, Object> optionsOf(IndexDefinition definition) {
+        Document options = definition.getIndexOptions();
+        Object filter = options.get(PARTIAL_FILTER);
+        return options(Boolean.TRUE.equals(options.get("unique")), Boolean.TRUE.equals(options.get("sparse")),
+                filter instanceof Document document ? document.toJson() : null);
+    }
+
+    private static Map<String, Object> liveOptionsOf(IndexInfo info) {
+        String filter = info.getPartialFilterExpression();
+        return options(info.isUnique(), info.isSparse(), filter == null ? null : Document.parse(filter).toJson());
+    }
+
+    private static Map<String, Object> options(boolean unique, boolean sparse, String partialFilter) {
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("unique", unique);
+        options.put("sparse", sparse);
+        options.put(PARTIAL_FILTER, partialFilter);
+        return options;
+    }
+
+    private static Map<String, Integer> keysOf(Document keys) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        keys.forEach((field, direction) ->
+                result.put(field, direction instanceof Number number ? number.intValue() : 1));
+        return result;
+    }
+
+    private static Map<String, Integer> liveKeysOf(IndexInfo info) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        info.getIndexFields().forEach(field ->
+                result.put(field.getKey(), field.getDirection() == Sort.Direction.DESC ? -1 : 1));
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.routing;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
+import com.mongodb.TaggableReadPreference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nodo del replica set que atiende cada tipo de lectura. Los listados, búsquedas, exportaciones y estadísticas
+ * usan la preferencia configurada en {@code users.mongodb.read-routing.listing} (por ejemplo secundarios o nodos
+ * de analítica etiquetados); las escrituras y las lecturas por ID siguen en el primario, así que un
+ * {@code GET /users/{id}} después de una escritura siempre ve el cambio.
+ */
+@Component
+@Slf4j
+public class UserReadRouting {
+
+    /** Mínimo que aceptan el driver y el servidor para {@code maxStalenessSeconds}. */
+    static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    /** Margen por el intervalo de heartbeat del driver y la diferencia de relojes entre pods. */
+    static final Duration STALENESS_MARGIN = Duration.ofSeconds(10);
+
+    private final ReactiveMongoTemplate listings;
+
+    private final ReadPreference listingPreference;
+
+    private final Duration maxStaleness;
+
+    @Autowired
+    public UserReadRouting(ReactiveMongoTemplate mongoTemplate,
+                           @Value("${users.mongodb.read-routing.listing.mode:primary}") String mode,
+                           @Value("${users.mongodb.read-routing.listing.max-staleness:0s}") Duration maxStaleness,
+                           @Value("${users.mongodb.read-routing.listing.tags:}") List<String> tags) {
+        this(mongoTemplate, preference(mode, maxStaleness, tags));
+    }
+
+    public UserReadRouting(ReactiveMongoTemplate mongoTemplate, ReadPreference listingPreference) {
+        this.listingPreference = listingPreference;
+        Long stalenessSeconds = listingPreference.isSecondaryOk()
+                ? ((TaggableReadPreference) listingPreference).getMaxStaleness(TimeUnit.SECONDS)
+                : null;
+        this.maxStaleness = stalenessSeconds == null ? null : Duration.ofSeconds(stalenessSeconds);
+        if (!listingPreference.isSecondaryOk()) {
+            this.listings = mongoTemplate;
+        } else {
+            // Mismo cliente, fábrica y conversor: solo cambia la preferencia de lectura de sus operaciones
+            this.listings = new ReactiveMongoTemplate(mongoTemplate.getMongoDatabaseFactory(),
+                    mongoTemplate.getConverter());
+            this.listings.setReadPreference(listingPreference);
+            log.info("Listados de usuarios enrutados con la preferencia de lectura {}", listingPreference);
+        }
+    }
+
+    /**
+     * Plantilla para lecturas de muchos documentos; nunca se usa para escribir.
+     */
+    public ReactiveMongoTemplate listings() {
+        return listings;
+    }
+
+    public ReadPreference listingPreference() {
+        return listingPreference;
+    }
+
+    /**
+     * Indica si una versión del listado leída con {@link #listings()} sirve como validador HTTP. En el primario
+     * siempre. En un secundario, el nodo que responde el listado puede ir más atrasado que el que respondió la
+     * versión: solo es seguro si la última escritura es más antigua que {@code maxStaleness}, porque entonces
+     * todos los nodos elegibles ya la tienen. Sin {@code maxStaleness} no hay cota y nunca es seguro.
+     */
+    public boolean validatorSafe(LocalDateTime lastUpdatedAt) {
+        if (!listingPreference.isSecondaryOk()) {
+            return true;
+        }
+        if (maxStaleness == null) {
+            return false;
+        }
+        return lastUpdatedAt == null
+                || lastUpdatedAt.isBefore(LocalDateTime.now().minus(maxStaleness).minus(STALENESS_MARGIN));
+    }
+
+    /**
+     * @param mode nombre del driver: {@code primary}, {@code primaryPreferred}, {@code secondary},
+     *             {@code secondaryPreferred} o {@code nearest}
+     * @param tags etiquetas {@code clave:valor} que deben tener los nodos elegibles, p. ej.
+     *             {@code nodeType:ANALYTICS} para los nodos de analítica de Atlas
+     */
+    static ReadPreference preference(String mode, Duration maxStaleness, List<String> configuredTags) {
+        List<String> tags = configuredTags.stream().filter(tag -> !tag.isBlank()).toList();
+        ReadPreference base = ReadPreference.valueOf(mode);
+        boolean stalenessBound = maxStaleness != null && !maxStaleness.isZero();
+        if (!base.isSecondaryOk()) {
+            if (stalenessBound || !tags.isEmpty()) {
+                throw new IllegalArgumentException(
+                        "users.mongodb.read-routing.listing: max-staleness y tags no se admiten con el modo primary");
+            }
+            return base;
+        }
+        if (stalenessBound && maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("users.mongodb.read-routing.listing.max-staleness debe ser de al menos "
+                    + MIN_MAX_STALENESS.toSeconds() + "s");
+        }
+        List<TagSet> tagSets = tags.isEmpty() ? List.of() : List.of(tagSet(tags));
+        return stalenessBound
+                ? ReadPreference.valueOf(mode, tagSets, maxStaleness.toSeconds(), TimeUnit.SECONDS)
+                : ReadPreference.valueOf(mode, tagSets);
+    }
+
+    private static TagSet tagSet(List<String> tags) {
+        List<Tag> parsed = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            int separator = tag.indexOf(':');
+            if (separator <= 0 || separator == tag.length() - 1) {
+                throw new IllegalArgumentException(
+                        "Etiqueta de lectura inválida '" + tag + "'; use el formato clave:valor");
+            }
+            parsed.add(new Tag(tag.substring(0, separator).trim(), tag.substring(separator + 1).trim()));
+        }
+        return new TagSet(parsed);
+    }
+}
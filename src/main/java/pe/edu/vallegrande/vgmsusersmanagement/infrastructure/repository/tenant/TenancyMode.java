@@ -0,0 +1,18 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant;
+
+/**
+ * Distribución de los usuarios por institución. No hay modo de una colección por institución: el change
+ * stream, las estadísticas, la búsqueda y la sincronización incremental recorren una sola colección, y miles de
+ * colecciones con sus índices multiplican los archivos de WiredTiger y el catálogo sin acelerar las consultas
+ * por institución, que ya son un rango de índice.
+ */
+public enum TenancyMode {
+    /** Colección sin particionar (replica set); las consultas por institución usan sus índices. */
+    SHARED,
+    /**
+     * Colección particionada con clave {@code institutionId}: los usuarios de una institución viven en un solo
+     * shard. Los índices únicos pasan a ser por institución, requisito de MongoDB para colecciones
+     * particionadas. Requiere MongoDB 8.0: las escrituras por {@code userId} no incluyen la clave de partición.
+     */
+    SHARDED;
+}
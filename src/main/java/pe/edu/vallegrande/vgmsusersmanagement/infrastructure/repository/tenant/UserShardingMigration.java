@@ -0,0 +1,151 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Migra la colección de usuarios existente al modo {@link TenancyMode#SHARDED} sin detener el servicio. Se
+ * activa con {@code users.tenancy.migrate-on-startup=true} junto con {@code users.tenancy.mode=SHARDED}, debe
+ * conectarse a través de un mongos y es idempotente: una segunda ejecución no cambia nada. La propiedad se lee al
+ * arrancar y no como condición del bean, que en la imagen AOT quedaría fijada al compilar.
+ */
+@Component
+@Slf4j
+public class UserShardingMigration implements ApplicationRunner {
+
+    private static final Document SHARD_KEY = new Document(UserTenancy.SHARD_KEY, 1);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final ReactiveMongoDatabaseFactory databaseFactory;
+
+    private final UserTenancy tenancy;
+
+    private final boolean migrateOnStartup;
+
+    public UserShardingMigration(ReactiveMongoTemplate mongoTemplate, ReactiveMongoDatabaseFactory databaseFactory,
+                                 UserTenancy tenancy,
+                                 @Value("${users.tenancy.migrate-on-startup:false}") boolean migrateOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.databaseFactory = databaseFactory;
+        this.tenancy = tenancy;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!migrateOnStartup) {
+            return;
+        }
+        if (!tenancy.sharded()) {
+            log.warn("users.tenancy.migrate-on-startup requiere users.tenancy.mode=SHARDED; no se migra la colección");
+            return;
+        }
+        migrate().subscribe(
+                null,
+                error -> log.error("No se pudo particionar la colección de usuarios: {}", error.getMessage(), error),
+                () -> log.info("Colección de usuarios particionada por {}", UserTenancy.SHARD_KEY));
+    }
+
+    /**
+     * <ol>
+     * <li>Crea los índices únicos por institución; MongoDB los construye en línea.</li>
+     * <li>Elimina los índices únicos globales, que impiden particionar la colección.</li>
+     * <li>Particiona con {@code shardCollection}, o con {@code reshardCollection} si ya tenía otra clave. El
+     * balanceador mueve los documentos en segundo plano mientras lecturas y escrituras continúan.</li>
+     * </ol>
+     * La clave necesita un índice que empiece por {@code institutionId}; {@code page_institution_createdAt} lo es.
+     */
+    public Mono<Void> migrate() {
+        ReactiveIndexOperations indexOps = mongoTemplate.indexOps(User.class);
+        List<IndexDefinition> globalUnique = globalUniqueIndexes();
+        return requireMongos()
+                .thenMany(Flux.fromIterable(globalUnique)
+                        .concatMap(definition -> indexOps.ensureIndex(UserTenancy.tenantScoped(definition)))
+                        .doOnNext(name -> log.info("Índice único por institución '{}' disponible", name)))
+                .then(indexOps.getIndexInfo().map(IndexInfo::getName).collectList())
+                .flatMapMany(live -> Flux.fromIterable(globalUnique)
+                        .map(definition -> definition.getIndexOptions().getString("name"))
+                        .filter(live::contains))
+                .concatMap(name -> indexOps.dropIndex(name)
+                        .doOnSuccess(done -> log.info("Índice único global '{}' eliminado", name)))
+                .then(mongoTemplate.getMongoDatabase().map(MongoDatabase::getName))
+                .flatMap(this::shard);
+    }
+
+    private List<IndexDefinition> globalUniqueIndexes() {
+        List<IndexDefinition> definitions = new ArrayList<>();
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(User.class)
+                .forEach(definition -> {
+                    if (UserTenancy.requiresTenantScope(definition)) {
+                        definitions.add(definition);
+                    }
+                });
+        return definitions;
+    }
+
+    private Mono<Void> requireMongos() {
+        return admin(new Document("hello", 1))
+                .filter(hello -> "isdbgrid".equals(hello.getString("msg")))
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                        "La partición requiere conectarse a un clúster particionado a través de mongos")))
+                .then();
+    }
+
+    private Mono<Void> shard(String database) {
+        String namespace = database + "." + mongoTemplate.getCollectionName(User.class);
+        return currentShardKey(namespace)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(current -> {
+                    if (current.isPresent() && isTenantKey(current.get())) {
+                        log.info("'{}' ya está particionada por {}", namespace, UserTenancy.SHARD_KEY);
+                        return Mono.empty();
+                    }
+                    String command = current.isPresent() ? "reshardCollection" : "shardCollection";
+                    log.info("Ejecutando {} sobre '{}' con clave {}", command, namespace, SHARD_KEY.toJson());
+                    return admin(new Document(command, namespace).append("key", SHARD_KEY)).then();
+                });
+    }
+
+    /**
+     * Clave de partición actual según {@code config.collections}; vacío si la colección no está particionada.
+     */
+    private Mono<Document> currentShardKey(String namespace) {
+        return databaseFactory.getMongoDatabase("config")
+                .flatMap(config -> Mono.from(config.getCollection("collections")
+                        .find(new Document("_id", namespace))
+                        .first()))
+                .filter(collection -> !Boolean.TRUE.equals(collection.getBoolean("dropped")))
+                .mapNotNull(collection -> collection.get("key", Document.class));
+    }
+
+    private boolean isTenantKey(Document key) {
+        return key.size() == 1 && key.get(UserTenancy.SHARD_KEY) instanceof Number direction
+                && direction.intValue() == 1;
+    }
+
+    private Mono<Document> admin(Document command) {
+        return databaseFactory.getMongoDatabase("admin")
+                .flatMap(admin -> Mono.from(admin.runCommand(command)));
+    }
+}
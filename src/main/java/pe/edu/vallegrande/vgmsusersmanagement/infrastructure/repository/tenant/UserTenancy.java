@@ -0,0 +1,98 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Enrutamiento por institución sobre la colección de usuarios. Una consulta que incluye {@code institutionId}
+ * por igualdad llega a un solo shard en modo {@link TenancyMode#SHARDED}; en {@link TenancyMode#SHARED} usa los
+ * índices que empiezan por {@code institutionId}.
+ */
+@Component
+public class UserTenancy {
+
+    public static final String SHARD_KEY = "institutionId";
+
+    static final String TENANT_INDEX_PREFIX = "tenant_";
+
+    private final TenancyMode mode;
+
+    public UserTenancy(@Value("${users.tenancy.mode:SHARED}") TenancyMode mode) {
+        this.mode = mode;
+    }
+
+    public TenancyMode mode() {
+        return mode;
+    }
+
+    public boolean sharded() {
+        return mode == TenancyMode.SHARDED;
+    }
+
+    /**
+     * Restringe {@code query} a la institución si se conoce.
+     */
+    public Query scoped(Query query, String institutionId) {
+        if (institutionId != null) {
+            query.addCriteria(Criteria.where(SHARD_KEY).is(institutionId));
+        }
+        return query;
+    }
+
+    /**
+     * Filtro de un upsert: en una colección particionada debe incluir la clave de partición completa.
+     */
+    public Query upsertScope(Query query, String institutionId) {
+        return sharded() ? query.addCriteria(Criteria.where(SHARD_KEY).is(institutionId)) : query;
+    }
+
+    /**
+     * Índices declarados en {@code User} adaptados al modo: en {@link TenancyMode#SHARDED} cada índice único pasa
+     * a ser por institución, porque MongoDB solo garantiza unicidad en una colección particionada si el índice
+     * empieza por la clave de partición.
+     */
+    public List<IndexDefinition> indexes(List<IndexDefinition> declared) {
+        if (!sharded()) {
+            return declared;
+        }
+        return declared.stream()
+                .map(definition -> requiresTenantScope(definition) ? tenantScoped(definition) : definition)
+                .toList();
+    }
+
+    public static boolean requiresTenantScope(IndexDefinition definition) {
+        return Boolean.TRUE.equals(definition.getIndexOptions().get("unique"))
+                && !definition.getIndexKeys().keySet().stream().findFirst().map(SHARD_KEY::equals).orElse(false);
+    }
+
+    /**
+     * {@code {institutionId: 1, <claves>}} con el mismo nombre prefijado por {@code tenant_}. Los índices
+     * {@code sparse} se vuelven parciales sobre sus claves: un índice compuesto disperso indexaría los documentos
+     * sin la clave (pero con institución) como nulos y los haría chocar entre sí.
+     */
+    public static IndexDefinition tenantScoped(IndexDefinition definition) {
+        Document keys = definition.getIndexKeys();
+        Document options = definition.getIndexOptions();
+        Index index = new Index().on(SHARD_KEY, Sort.Direction.ASC).unique()
+                .named(TENANT_INDEX_PREFIX + options.get("name"));
+        Criteria present = new Criteria();
+        keys.forEach((field, direction) -> {
+            index.on(field, direction instanceof Number number && number.intValue() < 0
+                    ? Sort.Direction.DESC : Sort.Direction.ASC);
+            present.and(field).exists(true);
+        });
+        if (Boolean.TRUE.equals(options.get("sparse"))) {
+            index.partial(PartialIndexFilter.of(present));
+        }
+        return index;
+    }
+}
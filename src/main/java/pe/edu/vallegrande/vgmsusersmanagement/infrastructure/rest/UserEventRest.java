@@ -0,0 +1,120 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserEventService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserEvent;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.CursorPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@CrossOrigin(origins = "*", methods = { RequestMethod.GET })
+@Slf4j
+public class UserEventRest {
+
+    private static final String RESYNC_EVENT = "resync";
+
+    private final UserEventService userEventService;
+
+    private final Duration heartbeatInterval;
+
+    public UserEventRest(UserEventService userEventService,
+                         @Value("${users.events.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.userEventService = userEventService;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Suscripción SSE a los cambios de usuarios. El {@code id} de cada evento es su token de reanudación: al
+     * reconectar, el navegador lo envía en {@code Last-Event-ID} (o el cliente lo pasa en {@code resumeToken}).
+     * Si el historial ya no permite reanudar, se envía un evento {@code resync} y el cliente debe ponerse al día
+     * con {@code GET /api/v1/users/changes}.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<UserEvent>> streamUserEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String resumeToken) {
+        String token = resumeToken != null ? resumeToken : lastEventId;
+        log.info("Endpoint GET /api/users/events - Suscripción a cambios de usuarios (reanudación: {})", token != null);
+        Flux<ServerSentEvent<UserEvent>> events = userEventService.watchUsers(token)
+                .map(this::toEvent)
+                .onErrorResume(error -> !(error instanceof IllegalArgumentException), error -> {
+                    log.warn("Suscripción a cambios interrumpida, se solicita resincronizar: {}", error.getMessage());
+                    return Mono.just(ServerSentEvent.<UserEvent>builder()
+                            .event(RESYNC_EVENT)
+                            .comment(error.getMessage())
+                            .build());
+                })
+                .onErrorMap(IllegalArgumentException.class,
+                        error -> new ResponseStatusException(HttpStatus.BAD_REQUEST, error.getMessage()));
+        // Los comentarios periódicos mantienen abierta la conexión a través de proxies cuando no hay cambios
+        return events.publish(shared -> Flux.merge(
+                shared,
+                Flux.interval(heartbeatInterval)
+                        .map(tick -> ServerSentEvent.<UserEvent>builder().comment("heartbeat").build())
+                        .takeUntilOther(shared.then())));
+    }
+
+    /**
+     * Usuarios modificados desde una fecha, para sincronización incremental. El {@code nextCursor} de la última
+     * página es la marca desde la que continuar en la siguiente sincronización.
+     */
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<ApiResponse<CursorPage<User>>>> getUsersChangedSince(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        log.info("Endpoint GET /api/users/changes - Obteniendo usuarios modificados desde {}", since);
+        return userEventService.getUsersChangedSince(since, cursor, size)
+                .map(page -> {
+                    ApiResponse<CursorPage<User>> response = ApiResponse.success(
+                            "Cambios de usuarios obtenidos exitosamente",
+                            page);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    log.error("Parámetros de sincronización inválidos: {}", error.getMessage());
+                    ApiResponse<CursorPage<User>> response = ApiResponse.error(
+                            "Parámetros inválidos: verifique el cursor");
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.BAD_REQUEST)
+                            .body(response));
+                })
+                .onErrorResume(error -> {
+                    log.error("Error al obtener cambios de usuarios: {}", error.getMessage(), error);
+                    ApiResponse<CursorPage<User>> response = ApiResponse.error(
+                            "Error al obtener cambios de usuarios: " + error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(response));
+                });
+    }
+
+    private ServerSentEvent<UserEvent> toEvent(UserEvent event) {
+        return ServerSentEvent.builder(event)
+                .id(event.getResumeToken())
+                .event(event.getType().name().toLowerCase(Locale.ROOT))
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserExportService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.exception.ExportCapacityExceededException;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserExportJob;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/v1/users/export")
+@CrossOrigin(origins = "*", methods = { RequestMethod.GET, RequestMethod.POST })
+@Slf4j
+public class UserExportRest {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private static final MediaType APPLICATION_GZIP = new MediaType("application", "gzip");
+
+    private final UserExportService userExportService;
+
+    public UserExportRest(UserExportService userExportService) {
+        this.userExportService = userExportService;
+    }
+
+    /**
+     * Descarga en CSV (gzip por defecto) de los usuarios filtrados, generada mientras se transmite. Las filas van
+     * ordenadas por {@code userId}: si la descarga se corta, se reanuda con {@code afterId} igual al último
+     * {@code userId} recibido y la respuesta continúa sin encabezados.
+     */
+    @GetMapping
+    public ResponseEntity<Flux<DataBuffer>> exportUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) String institutionId,
+            @RequestParam(required = false) String afterId,
+            @RequestParam(defaultValue = "true") boolean gzip,
+            ServerWebExchange exchange) {
+        log.info("Endpoint GET /api/users/export - Exportando usuarios a CSV");
+        Flux<DataBuffer> body = userExportService.exportUsers(status, role, institutionId, afterId, gzip,
+                exchange.getResponse().bufferFactory());
+        return ResponseEntity.ok()
+                .headers(downloadHeaders(gzip ? "users.csv.gz" : "users.csv"))
+                .contentType(gzip ? APPLICATION_GZIP : TEXT_CSV)
+                .body(body);
+    }
+
+    /**
+     * Genera la exportación en un archivo del servidor. Responde 202 con el trabajo; su estado se consulta en
+     * {@code /export/jobs/{jobId}} y el archivo, una vez completado, en {@code /export/jobs/{jobId}/file}.
+     */
+    @PostMapping("/jobs")
+    public Mono<ResponseEntity<ApiResponse<UserExportJob>>> startExportJob(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) String institutionId,
+            @RequestParam(defaultValue = "true") boolean gzip) {
+        log.info("Endpoint POST /api/users/export/jobs - Iniciando exportación de usuarios a archivo");
+        return userExportService.startExportJob(status, role, institutionId, gzip)
+                .map(job -> {
+                    ApiResponse<UserExportJob> response = ApiResponse.success("Exportación iniciada", job);
+                    return ResponseEntity
+                            .status(HttpStatus.ACCEPTED)
+                            .body(response);
+                })
+                .onErrorResume(ExportCapacityExceededException.class, error -> {
+                    log.warn("Exportación rechazada: {}", error.getMessage());
+                    ApiResponse<UserExportJob> response = ApiResponse.error(error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.TOO_MANY_REQUESTS)
+                            .body(response));
+                });
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public Mono<ResponseEntity<ApiResponse<UserExportJob>>> getExportJob(@PathVariable String jobId) {
+        ApiResponse<UserExportJob> notFound = ApiResponse.error("Exportación no encontrada o expirada");
+        return userExportService.getExportJob(jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success("Estado de la exportación", job)))
+                .defaultIfEmpty(ResponseEntity
+                        .status(HttpStatus.NOT_FOUND)
+                        .body(notFound));
+    }
+
+    /**
+     * Archivo de una exportación completada. Se sirve como {@link Resource}: admite {@code Range} para
+     * reanudar descargas y Netty lo envía con zero-copy cuando no hay compresión de respuesta.
+     */
+    @GetMapping("/jobs/{jobId}/file")
+    public Mono<ResponseEntity<Resource>> getExportFile(@PathVariable String jobId) {
+        return userExportService.getExportFile(jobId)
+                .map(file -> {
+                    String fileName = file.getFileName().toString();
+                    return ResponseEntity.ok()
+                            .headers(downloadHeaders(fileName))
+                            .contentType(fileName.endsWith(".gz") ? APPLICATION_GZIP : TEXT_CSV)
+                            .body((Resource) new FileSystemResource(file));
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private HttpHeaders downloadHeaders(String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+        return headers;
+    }
+}
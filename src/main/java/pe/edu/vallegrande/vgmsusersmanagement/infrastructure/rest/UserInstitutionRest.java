@@ -0,0 +1,37 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserEnrichmentService;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserWithInstitutionResponse;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/v1/users/with-institution")
+@CrossOrigin(origins = "*", methods = { RequestMethod.GET })
+@Slf4j
+public class UserInstitutionRest {
+
+    private final UserEnrichmentService userEnrichmentService;
+
+    public UserInstitutionRest(UserEnrichmentService userEnrichmentService) {
+        this.userEnrichmentService = userEnrichmentService;
+    }
+
+    /**
+     * Obtener usuarios con los datos de su institución, transmitidos a medida que se resuelven. Si el servicio
+     * de instituciones no responde a tiempo, los usuarios se envían con {@code institutionResolved=false}.
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<UserWithInstitutionResponse> getUsersWithInstitution(
+            @RequestParam(required = false) String institutionId) {
+        log.info("Endpoint GET /api/users/with-institution - Obteniendo usuarios con institución");
+        return userEnrichmentService.getUsersWithInstitution(institutionId);
+    }
+}
@@ -4,15 +4,43 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.exception.IdempotencyKeyReuseException;
 import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserStatistics;
 import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.ApiResponse;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.CreateUserRequest;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.UpdateUserRequest;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.UserRequestDto;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.request.UserRequestMapper;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.BulkItemResult;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.CursorPage;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserView;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserCursor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -21,22 +49,37 @@ import java.util.List;
 @Slf4j
 public class UserRest {
 
+    private static final int MIN_SEARCH_LENGTH = 2;
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private static final String INSTITUTION_HEADER = "X-Institution-Id";
+
     private final UserService userService;
 
-    public UserRest(UserService userService) {
+    private final int streamBatchSize;
+
+    public UserRest(UserService userService,
+                    @Value("${users.streaming.batch-size:256}") int streamBatchSize) {
         this.userService = userService;
+        this.streamBatchSize = streamBatchSize;
     }
 
     /**
-     * Obtener todos los usuarios
+     * Obtener todos los usuarios. Responde 304 sin consultar el listado si la colección no cambió desde el
+     * ETag / Last-Modified que envía el cliente
      */
     @GetMapping
-    public Mono<ResponseEntity<ApiResponse<List<User>>>> getAllUsers() {
-        log.info("Endpoint GET /api/users - Obteniendo todos los usuarios");
-        return userService.getAllUsers()
+    public Mono<ResponseEntity<ApiResponse<List<User>>>> getAllUsers(ServerWebExchange exchange) {
+        log.debug("Endpoint GET /api/users - Obteniendo todos los usuarios");
+        return withListValidators(exchange, null, userService.getAllUsers()
                 .collectList()
                 .map(users -> {
-                    log.info("Se obtuvieron {} usuarios", users.size());
+                    log.debug("Se obtuvieron {} usuarios", users.size());
                     ApiResponse<List<User>> response = ApiResponse.success(
                             "Usuarios obtenidos exitosamente",
                             users);
@@ -49,21 +92,22 @@ public class UserRest {
                     return Mono.just(ResponseEntity
                             .status(HttpStatus.INTERNAL_SERVER_ERROR)
                             .body(response));
-                });
+                }));
     }
 
     /**
      * Obtener usuarios por estado (ACTIVE o INACTIVE)
      */
     @GetMapping("/status/{status}")
-    public Mono<ResponseEntity<ApiResponse<List<User>>>> getUsersByStatus(@PathVariable String status) {
-        log.info("Endpoint GET /api/users/status/{} - Obteniendo usuarios por estado", status);
+    public Mono<ResponseEntity<ApiResponse<List<User>>>> getUsersByStatus(@PathVariable String status,
+                                                                          ServerWebExchange exchange) {
+        log.debug("Endpoint GET /api/users/status/{} - Obteniendo usuarios por estado", status);
         try {
             UserStatus userStatus = UserStatus.valueOf(status.toUpperCase());
-            return userService.getUsersByStatus(userStatus)
+            return withListValidators(exchange, userStatus, userService.getUsersByStatus(userStatus)
                     .collectList()
                     .map(users -> {
-                        log.info("Se obtuvieron {} usuarios con estado {}", users.size(), status);
+                        log.debug("Se obtuvieron {} usuarios con estado {}", users.size(), status);
                         ApiResponse<List<User>> response = ApiResponse.success(
                                 "Usuarios con estado " + status + " obtenidos exitosamente",
                                 users);
@@ -76,7 +120,7 @@ public class UserRest {
                         return Mono.just(ResponseEntity
                                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                                 .body(response));
-                    });
+                    }));
         } catch (IllegalArgumentException e) {
             log.error("Estado inválido: {}", status);
             ApiResponse<List<User>> response = ApiResponse.error(
@@ -88,18 +132,251 @@ public class UserRest {
     }
 
     /**
-     * Obtener usuario por ID
+     * Obtener todos los usuarios en una vista reducida ({@code ?view=summary|contact}); MongoDB solo devuelve
+     * los campos de la vista
+     */
+    @GetMapping(params = "view")
+    public Mono<ResponseEntity<ApiResponse<List<?>>>> getAllUsersView(@RequestParam String view,
+                                                                      ServerWebExchange exchange) {
+        log.debug("Endpoint GET /api/users?view={} - Obteniendo todos los usuarios", view);
+        // Solo el parámetro inválido es un 400: los errores de la consulta se atienden dentro del flatMap
+        return Mono.fromCallable(() -> UserView.from(view))
+                .flatMap(userView -> withListValidators(exchange, null, userService.getAllUsers(userView.type())
+                        .cast(Object.class)
+                        .collectList()
+                        .map(users -> {
+                            log.debug("Se obtuvieron {} usuarios", users.size());
+                            ApiResponse<List<?>> response = ApiResponse.success(
+                                    "Usuarios obtenidos exitosamente",
+                                    users);
+                            return ResponseEntity.ok(response);
+                        }))
+                        .onErrorResume(error -> {
+                            log.error("Error al obtener usuarios: {}", error.getMessage(), error);
+                            ApiResponse<List<?>> response = ApiResponse.error(
+                                    "Error al obtener usuarios: " + error.getMessage());
+                            return Mono.just(ResponseEntity
+                                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                    .body(response));
+                        }))
+                .onErrorResume(IllegalArgumentException.class, error -> invalidView(error.getMessage()));
+    }
+
+    /**
+     * Obtener usuarios por estado en una vista reducida
+     */
+    @GetMapping(value = "/status/{status}", params = "view")
+    public Mono<ResponseEntity<ApiResponse<List<?>>>> getUsersByStatusView(@PathVariable String status,
+                                                                          @RequestParam String view,
+                                                                          ServerWebExchange exchange) {
+        log.debug("Endpoint GET /api/users/status/{}?view={} - Obteniendo usuarios por estado", status, view);
+        return Mono.fromCallable(() -> UserStatus.valueOf(status.toUpperCase()))
+                .onErrorMap(IllegalArgumentException.class,
+                        error -> new IllegalArgumentException("Estado inválido. Use ACTIVE o INACTIVE"))
+                .zipWith(Mono.fromCallable(() -> UserView.from(view)))
+                .flatMap(params -> withListValidators(exchange, params.getT1(), userService
+                        .getUsersByStatus(params.getT1(), params.getT2().type())
+                        .cast(Object.class)
+                        .collectList()
+                        .map(users -> {
+                            log.debug("Se obtuvieron {} usuarios con estado {}", users.size(), status);
+                            ApiResponse<List<?>> response = ApiResponse.success(
+                                    "Usuarios con estado " + status + " obtenidos exitosamente",
+                                    users);
+                            return ResponseEntity.ok(response);
+                        }))
+                        .onErrorResume(error -> {
+                            log.error("Error al obtener usuarios por estado: {}", error.getMessage(), error);
+                            ApiResponse<List<?>> response = ApiResponse.error(
+                                    "Error al obtener usuarios por estado: " + error.getMessage());
+                            return Mono.just(ResponseEntity
+                                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                    .body(response));
+                        }))
+                .onErrorResume(IllegalArgumentException.class, error -> invalidView(error.getMessage()));
+    }
+
+    /**
+     * Transmitir todos los usuarios en una vista reducida como NDJSON
+     */
+    @GetMapping(params = "view", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Object> streamAllUsersView(@RequestParam String view) {
+        log.debug("Endpoint GET /api/users?view={} (NDJSON) - Transmitiendo todos los usuarios", view);
+        return Mono.fromCallable(() -> parseView(view))
+                .flatMapMany(userView -> stream(userService.getAllUsers(userView.type()).cast(Object.class)));
+    }
+
+    /**
+     * Transmitir usuarios por estado en una vista reducida como NDJSON
+     */
+    @GetMapping(value = "/status/{status}", params = "view", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Object> streamUsersByStatusView(@PathVariable String status, @RequestParam String view) {
+        log.debug("Endpoint GET /api/users/status/{}?view={} (NDJSON) - Transmitiendo usuarios por estado",
+                status, view);
+        return Mono.fromCallable(() -> parseView(view))
+                .flatMapMany(userView -> stream(userService.getUsersByStatus(parseStatus(status),
+                        userView.type()).cast(Object.class)));
+    }
+
+    /**
+     * Transmitir todos los usuarios como NDJSON, un documento por línea a medida que MongoDB los entrega
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> streamAllUsers() {
+        log.debug("Endpoint GET /api/users (NDJSON) - Transmitiendo todos los usuarios");
+        return stream(userService.getAllUsers());
+    }
+
+    /**
+     * Transmitir todos los usuarios como Server-Sent Events
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<User>> streamAllUsersAsEvents() {
+        log.debug("Endpoint GET /api/users (SSE) - Transmitiendo todos los usuarios");
+        return stream(userService.getAllUsers()).map(this::toEvent);
+    }
+
+    /**
+     * Transmitir usuarios por estado como NDJSON
+     */
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> streamUsersByStatus(@PathVariable String status) {
+        log.debug("Endpoint GET /api/users/status/{} (NDJSON) - Transmitiendo usuarios por estado", status);
+        return Mono.fromCallable(() -> parseStatus(status))
+                .flatMapMany(userStatus -> stream(userService.getUsersByStatus(userStatus)));
+    }
+
+    /**
+     * Transmitir usuarios por estado como Server-Sent Events
+     */
+    @GetMapping(value = "/status/{status}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<User>> streamUsersByStatusAsEvents(@PathVariable String status) {
+        log.debug("Endpoint GET /api/users/status/{} (SSE) - Transmitiendo usuarios por estado", status);
+        return Mono.fromCallable(() -> parseStatus(status))
+                .flatMapMany(userStatus -> stream(userService.getUsersByStatus(userStatus)))
+                .map(this::toEvent);
+    }
+
+    /**
+     * Obtener una página de usuarios usando un cursor opaco (paginación por conjunto de claves)
+     */
+    @GetMapping("/page")
+    public Mono<ResponseEntity<ApiResponse<CursorPage<User>>>> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String institutionId) {
+        log.debug("Endpoint GET /api/users/page - Obteniendo página de usuarios");
+        UserStatus userStatus;
+        UserRole userRole;
+        UserCursor after;
+        // Solo un parámetro ilegible es un 400; los errores del servicio o del driver van al 500
+        try {
+            userStatus = status == null ? null : UserStatus.valueOf(status.toUpperCase());
+            userRole = role == null ? null : UserRole.valueOf(role.toUpperCase());
+            after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+        } catch (IllegalArgumentException error) {
+            log.error("Parámetros de paginación inválidos: {}", error.getMessage());
+            ApiResponse<CursorPage<User>> response = ApiResponse.error(
+                    "Parámetros inválidos: verifique cursor, estado o rol");
+            return Mono.just(ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(response));
+        }
+        return Mono.defer(() -> userService.getUsersPage(userStatus, userRole, institutionId, after, size))
+                .map(page -> {
+                    log.debug("Se obtuvieron {} usuarios en la página", page.getSize());
+                    ApiResponse<CursorPage<User>> response = ApiResponse.success(
+                            "Página de usuarios obtenida exitosamente",
+                            page);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(error -> {
+                    log.error("Error al obtener página de usuarios: {}", error.getMessage(), error);
+                    ApiResponse<CursorPage<User>> response = ApiResponse.error(
+                            "Error al obtener página de usuarios: " + error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(response));
+                });
+    }
+
+    /**
+     * Búsqueda por prefijo (autocompletado) sobre nombres, usuario, correo y documento
+     */
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ApiResponse<List<User>>>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Endpoint GET /api/users/search - Buscando usuarios por prefijo");
+        if (q.isBlank() || q.trim().length() < MIN_SEARCH_LENGTH) {
+            ApiResponse<List<User>> response = ApiResponse.error(
+                    "La búsqueda requiere al menos " + MIN_SEARCH_LENGTH + " caracteres");
+            return Mono.just(ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(response));
+        }
+        return userService.searchUsers(q, limit)
+                .collectList()
+                .map(users -> {
+                    ApiResponse<List<User>> response = ApiResponse.success(
+                            "Búsqueda realizada exitosamente",
+                            users);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(error -> {
+                    log.error("Error al buscar usuarios: {}", error.getMessage(), error);
+                    ApiResponse<List<User>> response = ApiResponse.error(
+                            "Error al buscar usuarios: " + error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(response));
+                });
+    }
+
+    /**
+     * Conteo de usuarios por rol, estado e institución
+     */
+    @GetMapping("/statistics")
+    public Mono<ResponseEntity<ApiResponse<UserStatistics>>> getStatistics() {
+        log.debug("Endpoint GET /api/users/statistics - Obteniendo estadísticas de usuarios");
+        return userService.getStatistics()
+                .map(statistics -> {
+                    ApiResponse<UserStatistics> response = ApiResponse.success(
+                            "Estadísticas obtenidas exitosamente",
+                            statistics);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(error -> {
+                    log.error("Error al obtener estadísticas de usuarios: {}", error.getMessage(), error);
+                    ApiResponse<UserStatistics> response = ApiResponse.error(
+                            "Error al obtener estadísticas de usuarios: " + error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(response));
+                });
+    }
+
+    /**
+     * Obtener usuario por ID. El ETag sale de la versión del documento y Last-Modified de {@code updatedAt}; con
+     * If-None-Match / If-Modified-Since vigentes se responde 304 sin cuerpo. Con {@code X-Institution-Id} la
+     * búsqueda se limita a esa institución
      */
     @GetMapping("/{userId}")
-    public Mono<ResponseEntity<ApiResponse<User>>> getUserById(@PathVariable String userId) {
-        log.info("Endpoint GET /api/users/{} - Obteniendo usuario por ID", userId);
-        return userService.getUserById(userId)
+    public Mono<ResponseEntity<ApiResponse<User>>> getUserById(
+            @PathVariable String userId,
+            @RequestHeader(value = INSTITUTION_HEADER, required = false) String institutionId) {
+        log.debug("Endpoint GET /api/users/{} - Obteniendo usuario por ID", userId);
+        return userService.getUserById(userId, institutionId)
                 .map(user -> {
-                    log.info("Usuario encontrado: {}", userId);
+                    log.debug("Usuario encontrado: {}", userId);
                     ApiResponse<User> response = ApiResponse.success(
                             "Usuario obtenido exitosamente",
                             user);
-                    return ResponseEntity.ok(response);
+                    return ResponseEntity.ok()
+                            .headers(validators(etag(user), toInstant(user.getUpdatedAt())))
+                            .body(response);
                 })
                 .switchIfEmpty(Mono.defer(() -> {
                     log.warn("Usuario no encontrado: {}", userId);
@@ -120,21 +397,54 @@ public class UserRest {
     }
 
     /**
-     * Crear un nuevo usuario
+     * Crear un nuevo usuario. Una petición inválida se rechaza con 400 sin consultar la base de datos
      */
     @PostMapping
-    public Mono<ResponseEntity<ApiResponse<User>>> createUser(@RequestBody User user) {
-        log.info("Endpoint POST /api/users - Creando nuevo usuario: {}", user.getUserName());
-        return userService.createUser(user)
-                .map(createdUser -> {
-                    log.info("Usuario creado exitosamente con ID: {}", createdUser.getUserId());
+    public Mono<ResponseEntity<ApiResponse<User>>> createUser(
+            @RequestBody CreateUserRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        log.debug("Endpoint POST /api/users - Creando nuevo usuario: {}", request.getUserName());
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            ApiResponse<User> response = ApiResponse.error(
+                    "La cabecera " + IDEMPOTENCY_KEY_HEADER + " debe tener entre 1 y " + MAX_IDEMPOTENCY_KEY_LENGTH
+                            + " caracteres");
+            return Mono.just(ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(response));
+        }
+        List<String> violations = request.violations();
+        if (!violations.isEmpty()) {
+            return invalid(violations);
+        }
+        return userService.createUser(UserRequestMapper.toUser(request), idempotencyKey)
+                .map(creation -> {
+                    if (creation.isReplayed()) {
+                        log.info("Reintento de creación con clave de idempotencia, usuario: {}",
+                                creation.getUser().getUserId());
+                        ApiResponse<User> response = ApiResponse.success(
+                                "Usuario ya creado con esta clave de idempotencia",
+                                creation.getUser());
+                        return ResponseEntity
+                                .ok()
+                                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                                .body(response);
+                    }
+                    log.debug("Usuario creado exitosamente con ID: {}", creation.getUser().getUserId());
                     ApiResponse<User> response = ApiResponse.success(
                             "Usuario creado exitosamente",
-                            createdUser);
+                            creation.getUser());
                     return ResponseEntity
                             .status(HttpStatus.CREATED)
                             .body(response);
                 })
+                .onErrorResume(DuplicateKeyException.class, this::duplicate)
+                .onErrorResume(IdempotencyKeyReuseException.class, error -> {
+                    log.warn("Clave de idempotencia reutilizada: {}", error.getMessage());
+                    ApiResponse<User> response = ApiResponse.error(error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                            .body(response));
+                })
                 .onErrorResume(error -> {
                     log.error("Error al crear usuario: {}", error.getMessage(), error);
                     ApiResponse<User> response = ApiResponse.error(
@@ -145,17 +455,34 @@ public class UserRest {
                 });
     }
 
+    /**
+     * Importar usuarios de forma masiva desde un arreglo JSON o NDJSON. Se responde un resultado por cada
+     * usuario recibido, en el mismo orden, a medida que se procesan los lotes. Cada usuario se valida como en
+     * {@code POST /api/v1/users}; los inválidos se informan como {@code INVALID} sin insertarse.
+     */
+    @PostMapping(value = "/bulk",
+            consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE },
+            produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<BulkItemResult> importUsers(@RequestBody Flux<CreateUserRequest> users) {
+        log.debug("Endpoint POST /api/users/bulk - Importando usuarios");
+        return userService.importUsers(users.map(UserRequestMapper::toImportItem));
+    }
+
     /**
      * Actualizar usuario existente
      */
     @PutMapping("/{userId}")
     public Mono<ResponseEntity<ApiResponse<User>>> updateUser(
             @PathVariable String userId,
-            @RequestBody User user) {
-        log.info("Endpoint PUT /api/users/{} - Actualizando usuario", userId);
-        return userService.updateUser(userId, user)
+            @RequestBody UpdateUserRequest request) {
+        log.debug("Endpoint PUT /api/users/{} - Actualizando usuario", userId);
+        List<String> violations = request.violations();
+        if (!violations.isEmpty()) {
+            return invalid(violations);
+        }
+        return userService.updateUser(userId, UserRequestMapper.toUser(request))
                 .map(updatedUser -> {
-                    log.info("Usuario actualizado exitosamente: {}", userId);
+                    log.debug("Usuario actualizado exitosamente: {}", userId);
                     ApiResponse<User> response = ApiResponse.success(
                             "Usuario actualizado exitosamente",
                             updatedUser);
@@ -169,6 +496,8 @@ public class UserRest {
                             .status(HttpStatus.NOT_FOUND)
                             .body(response));
                 }))
+                .onErrorResume(OptimisticLockingFailureException.class, this::conflict)
+                .onErrorResume(DuplicateKeyException.class, this::duplicate)
                 .onErrorResume(error -> {
                     log.error("Error al actualizar usuario: {}", error.getMessage(), error);
                     ApiResponse<User> response = ApiResponse.error(
@@ -179,15 +508,56 @@ public class UserRest {
                 });
     }
 
+    /**
+     * Actualizar parcialmente un usuario: solo se modifican los campos enviados. Si se envía {@code version},
+     * la actualización falla con 409 cuando el usuario cambió desde esa versión.
+     */
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<ApiResponse<User>>> patchUser(
+            @PathVariable String userId,
+            @RequestBody UserRequestDto changes) {
+        log.debug("Endpoint PATCH /api/users/{} - Actualizando parcialmente usuario", userId);
+        List<String> violations = changes.violations();
+        if (!violations.isEmpty()) {
+            return invalid(violations);
+        }
+        return userService.patchUser(userId, UserRequestMapper.toUser(changes), changes.clearedFields())
+                .map(updatedUser -> {
+                    log.debug("Usuario actualizado parcialmente: {}", userId);
+                    ApiResponse<User> response = ApiResponse.success(
+                            "Usuario actualizado exitosamente",
+                            updatedUser);
+                    return ResponseEntity.ok(response);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Usuario no encontrado para actualizar: {}", userId);
+                    ApiResponse<User> response = ApiResponse.error(
+                            "Usuario no encontrado con ID: " + userId);
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.NOT_FOUND)
+                            .body(response));
+                }))
+                .onErrorResume(OptimisticLockingFailureException.class, this::conflict)
+                .onErrorResume(DuplicateKeyException.class, this::duplicate)
+                .onErrorResume(error -> {
+                    log.error("Error al actualizar parcialmente usuario: {}", error.getMessage(), error);
+                    ApiResponse<User> response = ApiResponse.error(
+                            "Error al actualizar usuario: " + error.getMessage());
+                    return Mono.just(ResponseEntity
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(response));
+                });
+    }
+
     /**
      * Eliminar usuario lógicamente (cambiar estado a INACTIVE)
      */
     @DeleteMapping("/{userId}")
     public Mono<ResponseEntity<ApiResponse<User>>> deleteUser(@PathVariable String userId) {
-        log.info("Endpoint DELETE /api/users/{} - Eliminando usuario lógicamente", userId);
+        log.debug("Endpoint DELETE /api/users/{} - Eliminando usuario lógicamente", userId);
         return userService.deleteUser(userId)
                 .map(deletedUser -> {
-                    log.info("Usuario eliminado lógicamente: {}", userId);
+                    log.debug("Usuario eliminado lógicamente: {}", userId);
                     ApiResponse<User> response = ApiResponse.success(
                             "Usuario eliminado exitosamente",
                             deletedUser);
@@ -216,10 +586,10 @@ public class UserRest {
      */
     @PatchMapping("/{userId}/restore")
     public Mono<ResponseEntity<ApiResponse<User>>> restoreUser(@PathVariable String userId) {
-        log.info("Endpoint PATCH /api/users/{}/restore - Restaurando usuario", userId);
+        log.debug("Endpoint PATCH /api/users/{}/restore - Restaurando usuario", userId);
         return userService.restoreUser(userId)
                 .map(restoredUser -> {
-                    log.info("Usuario restaurado exitosamente: {}", userId);
+                    log.debug("Usuario restaurado exitosamente: {}", userId);
                     ApiResponse<User> response = ApiResponse.success(
                             "Usuario restaurado exitosamente",
                             restoredUser);
@@ -243,4 +613,171 @@ public class UserRest {
                 });
     }
 
+    /**
+     * Respuesta condicional de un listado: si el validador de la colección coincide con If-None-Match /
+     * If-Modified-Since se responde 304 sin ejecutar {@code response}. El validador se calcula antes que el
+     * listado, así que una escritura intermedia a lo sumo provoca una descarga extra en la siguiente consulta.
+     * Si el validador falla, o no es seguro porque el listado se lee de un secundario, se responde sin él.
+     */
+    private <T> Mono<ResponseEntity<T>> withListValidators(ServerWebExchange exchange, UserStatus status,
+                                                           Mono<ResponseEntity<T>> response) {
+        return userService.getUsersVersion(status)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(error -> {
+                    log.warn("No se pudo calcular el validador del listado: {}", error.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(version -> {
+                    if (version.isEmpty()) {
+                        return response;
+                    }
+                    String etag = etag(version.get());
+                    Instant lastModified = toInstant(version.get().getLastUpdatedAt());
+                    boolean notModified = lastModified == null
+                            ? exchange.checkNotModified(etag)
+                            : exchange.checkNotModified(etag, lastModified);
+                    if (notModified) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .headers(validators(etag, lastModified))
+                                .<T>build());
+                    }
+                    return response.map(entity -> entity.getStatusCode().is2xxSuccessful()
+                            ? ResponseEntity.status(entity.getStatusCode())
+                                    .headers(entity.getHeaders())
+                                    .headers(validators(etag, lastModified))
+                                    .body(entity.getBody())
+                            : entity);
+                });
+    }
+
+    /**
+     * ETag débil: el cuerpo puede viajar comprimido o no según la negociación con el cliente.
+     */
+    private String etag(UserCollectionVersion version) {
+        LocalDateTime lastUpdatedAt = version.getLastUpdatedAt();
+        long lastUpdatedMillis = lastUpdatedAt == null ? 0 : toInstant(lastUpdatedAt).toEpochMilli();
+        return "W/\"" + version.getCount() + "-" + lastUpdatedMillis + "\"";
+    }
+
+    private String etag(User user) {
+        if (user.getVersion() != null) {
+            return "W/\"" + user.getVersion() + "\"";
+        }
+        return user.getUpdatedAt() == null ? null : "W/\"" + toInstant(user.getUpdatedAt()).toEpochMilli() + "\"";
+    }
+
+    /**
+     * Los clientes guardan la respuesta pero la revalidan en cada uso ({@code no-cache}).
+     */
+    private HttpHeaders validators(String etag, Instant lastModified) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(CacheControl.noCache());
+        if (etag != null) {
+            headers.setETag(etag);
+        }
+        if (lastModified != null) {
+            headers.setLastModified(lastModified);
+        }
+        return headers;
+    }
+
+    /**
+     * Las fechas se guardan como {@link LocalDateTime} en la zona del servidor, igual que las convierte Spring Data.
+     */
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /**
+     * Limita la demanda hacia MongoDB para que solo haya un lote de documentos en memoria por petición
+     */
+    private <T> Flux<T> stream(Flux<T> users) {
+        return users
+                .limitRate(streamBatchSize)
+                .doOnError(error -> log.error("Error al transmitir usuarios: {}", error.getMessage(), error));
+    }
+
+    private Mono<ResponseEntity<ApiResponse<List<?>>>> invalidView(String message) {
+        log.error("Parámetros de vista inválidos: {}", message);
+        ApiResponse<List<?>> response = ApiResponse.error(message);
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response));
+    }
+
+    private UserView parseView(String view) {
+        try {
+            return UserView.from(view);
+        } catch (IllegalArgumentException e) {
+            log.error("Vista inválida: {}", view);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private Mono<ResponseEntity<ApiResponse<User>>> invalid(List<String> violations) {
+        log.warn("Petición de usuario inválida: {}", violations);
+        ApiResponse<User> response = ApiResponse.error("Datos inválidos: " + String.join("; ", violations));
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response));
+    }
+
+    /**
+     * Cuerpo ilegible (JSON mal formado, rol o estado inexistente): 400 con el mismo formato que el resto de
+     * respuestas en lugar del error genérico de WebFlux.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<Void>> unreadableRequest(ServerWebInputException error) {
+        log.warn("Cuerpo de petición inválido: {}", error.getReason());
+        ApiResponse<Void> response = ApiResponse.error("Cuerpo de petición inválido: " + error.getReason());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    private Mono<ResponseEntity<ApiResponse<User>>> conflict(OptimisticLockingFailureException error) {
+        log.warn("Conflicto de versión: {}", error.getMessage());
+        ApiResponse<User> response = ApiResponse.error(error.getMessage());
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(response));
+    }
+
+    /**
+     * Violación de un índice único: el nombre del índice en el mensaje del servidor indica el campo duplicado.
+     */
+    private Mono<ResponseEntity<ApiResponse<User>>> duplicate(DuplicateKeyException error) {
+        String detail = String.valueOf(error.getMessage());
+        String message;
+        if (detail.contains("documentNumber")) {
+            message = "Ya existe un usuario con ese número de documento";
+        } else if (detail.contains("userName")) {
+            message = "Ya existe un usuario con ese nombre de usuario";
+        } else {
+            message = "El usuario ya existe";
+        }
+        log.warn("Usuario duplicado: {}", message);
+        ApiResponse<User> response = ApiResponse.error(message);
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(response));
+    }
+
+    private ServerSentEvent<User> toEvent(User user) {
+        return ServerSentEvent.builder(user)
+                .id(user.getUserId())
+                .event("user")
+                .build();
+    }
+
+    private UserStatus parseStatus(String status) {
+        try {
+            return UserStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.error("Estado inválido: {}", status);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Estado inválido. Use ACTIVE o INACTIVE");
+        }
+    }
+
 }
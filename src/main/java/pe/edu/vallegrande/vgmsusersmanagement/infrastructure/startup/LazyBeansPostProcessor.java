@@ -0,0 +1,53 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Marca como lazy los beans cuya clase (o la clase que declara su método {@code @Bean}) empieza por alguno de
+ * los prefijos dados. Se usa para springdoc/swagger: sus controladores siguen registrados, pero se crean con la
+ * primera petición a {@code /v3/api-docs} o a la UI y no durante el arranque.
+ */
+@Slf4j
+public class LazyBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> classPrefixes;
+
+    public LazyBeansPostProcessor(List<String> classPrefixes) {
+        this.classPrefixes = List.copyOf(classPrefixes);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        int lazy = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            String source = sourceClassName(definition);
+            if (source != null && classPrefixes.stream().anyMatch(source::startsWith)) {
+                definition.setLazyInit(true);
+                lazy++;
+            }
+        }
+        log.info("{} beans de {} marcados como lazy", lazy, classPrefixes);
+    }
+
+    private static String sourceClassName(BeanDefinition definition) {
+        if (definition.getBeanClassName() != null) {
+            return definition.getBeanClassName();
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null ? factoryMethod.getDeclaringClassName() : null;
+        }
+        return null;
+    }
+}
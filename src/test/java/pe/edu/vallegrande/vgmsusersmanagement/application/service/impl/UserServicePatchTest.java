@@ -0,0 +1,130 @@
+package pe.edu.vallegrande.vgmsusersmanagement.application.service.impl;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.ReactiveMongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserSearchKeys;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.NoOpUserCacheTier;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCache;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCacheTier;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepositoryCustomImpl;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter.NoOpUserCounters;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.routing.UserReadRouting;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.TenancyMode;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.UserTenancy;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PATCH contra un replica set de un nodo levantado con Testcontainers: la versión devuelta debe ser la guardada
+ * para que el siguiente PATCH condicionado no falle. Se omite si no hay Docker disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserServicePatchTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+
+    private static ReactiveMongoTemplate mongoTemplate;
+
+    private static UserServiceImpl userService;
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new ReactiveMongoTemplate(client, "users_test");
+        UserRepositoryCustomImpl custom = new UserRepositoryCustomImpl(mongoTemplate,
+                new UserTenancy(TenancyMode.SHARED), new UserReadRouting(mongoTemplate, ReadPreference.primary()));
+        UserRepository repository = new ReactiveMongoRepositoryFactory(mongoTemplate)
+                .getRepository(UserRepository.class, RepositoryFragments.just(custom));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCacheTier", new NoOpUserCacheTier());
+        UserCache userCache = new UserCache(100, Duration.ofMinutes(1),
+                beanFactory.getBeanProvider(UserCacheTier.class), new SimpleMeterRegistry());
+        userService = new UserServiceImpl(repository, userCache, new NoOpUserCounters(), 500, 2);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), User.class).block();
+    }
+
+    @Test
+    void nextPatchAcceptsVersionReturnedByPreviousPatch() {
+        User created = mongoTemplate.insert(User.builder()
+                .firstName("Ana")
+                .lastName("Quispe")
+                .documentNumber("70000001")
+                .userName("ana.quispe")
+                .role(UserRole.PROFESOR)
+                .status(UserStatus.ACTIVE)
+                .build()).block(TIMEOUT);
+        String userId = created.getUserId();
+
+        User first = userService.patchUser(userId, User.builder()
+                .firstName("Ana María")
+                .version(created.getVersion())
+                .build(), Set.of()).block(TIMEOUT);
+        User second = userService.patchUser(userId, User.builder()
+                .lastName("Ñahui")
+                .version(first.getVersion())
+                .build(), Set.of()).block(TIMEOUT);
+
+        User stored = mongoTemplate.findById(userId, User.class).block(TIMEOUT);
+        assertThat(second.getVersion()).isEqualTo(first.getVersion() + 1).isEqualTo(stored.getVersion());
+        assertThat(stored.getSearchKeys()).contains("ana maria nahui", "70000001", "ana.quispe");
+        assertThat(stored.getSearchKeys()).isEqualTo(UserSearchKeys.of(stored));
+    }
+
+    @Test
+    void clearedFieldsAreRemovedInsteadOfStoredEmpty() {
+        User created = mongoTemplate.insert(User.builder()
+                .firstName("Ana")
+                .lastName("Quispe")
+                .documentNumber("70000001")
+                .userName("ana.quispe")
+                .email("ana@colegio.pe")
+                .phone("999888777")
+                .role(UserRole.PROFESOR)
+                .status(UserStatus.ACTIVE)
+                .build()).block(TIMEOUT);
+
+        User patched = userService.patchUser(created.getUserId(), new User(), Set.of("email", "phone"))
+                .block(TIMEOUT);
+
+        Document stored = mongoTemplate.findById(created.getUserId(), Document.class, "users").block(TIMEOUT);
+        assertThat(stored).doesNotContainKeys("email", "phone");
+        assertThat(patched.getEmail()).isNull();
+        assertThat(patched.getSearchKeys()).doesNotContain("ana@colegio.pe");
+    }
+}
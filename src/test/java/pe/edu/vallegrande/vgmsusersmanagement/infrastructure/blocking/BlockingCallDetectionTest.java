@@ -0,0 +1,58 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.blocking;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BlockHound lo instala {@code blockhound-junit-platform} al iniciar la JVM de pruebas, en modo estricto.
+ */
+class BlockingCallDetectionTest {
+
+    private static final Scheduler BLOCKING = Schedulers.newBoundedElastic(2, 10, "test-blocking");
+
+    @BeforeEach
+    void resetReport() {
+        BlockingCallReporter.reset();
+    }
+
+    @AfterAll
+    static void disposeScheduler() {
+        BLOCKING.dispose();
+    }
+
+    @Test
+    void failsAndReportsCallSiteWhenBlockingOnNonBlockingThread() {
+        StepVerifier.create(Mono.fromCallable(BlockingCallDetectionTest::slowLookup)
+                        .subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify();
+
+        assertThat(BlockingCallReporter.callSites()).hasSize(1);
+        String site = BlockingCallReporter.callSites().keySet().iterator().next();
+        assertThat(site).startsWith("BlockingCallDetectionTest.slowLookup(").contains("sleep");
+    }
+
+    @Test
+    void allowsBlockingWorkOnBlockingScheduler() {
+        BlockingCalls blockingCalls = new BlockingCalls(BLOCKING);
+
+        StepVerifier.create(blockingCalls.call(BlockingCallDetectionTest::slowLookup)
+                        .subscribeOn(Schedulers.parallel()))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(BlockingCallReporter.callSites()).isEmpty();
+    }
+
+    private static String slowLookup() throws InterruptedException {
+        Thread.sleep(1);
+        return "ok";
+    }
+}
@@ -0,0 +1,100 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void coalescesConcurrentMissesIntoOneLoad() {
+        UserCache cache = cache(new NoOpUserCacheTier());
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<User> pending = Sinks.one();
+
+        Flux<User> callers = Flux.range(0, 10)
+                .flatMap(i -> cache.get("u1", id -> {
+                    loads.incrementAndGet();
+                    return pending.asMono();
+                }));
+
+        StepVerifier.create(callers)
+                .then(() -> pending.tryEmitValue(user("u1")))
+                .expectNextCount(10)
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+
+        StepVerifier.create(cache.get("u1", id -> Mono.error(new IllegalStateException("no debe cargarse"))))
+                .expectNextMatches(user -> user.getUserId().equals("u1"))
+                .verifyComplete();
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void evictForcesReloadAndDoesNotCacheMissingUsers() {
+        UserCache cache = cache(new NoOpUserCacheTier());
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(cache.get("missing", id -> {
+                    loads.incrementAndGet();
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+        StepVerifier.create(cache.get("missing", id -> {
+                    loads.incrementAndGet();
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+        assertThat(loads).hasValue(2);
+
+        cache.get("u1", id -> Mono.just(user(id))).block();
+        cache.evict("u1").block();
+        StepVerifier.create(cache.get("u1", id -> {
+                    loads.incrementAndGet();
+                    return Mono.just(user(id));
+                }))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void readsThroughAndInvalidatesSecondTier() {
+        InMemoryUserCacheTier secondTier = new InMemoryUserCacheTier();
+        UserCache cache = cache(secondTier);
+
+        cache.get("u1", id -> Mono.just(user(id))).block();
+        assertThat(secondTier.size()).isEqualTo(1);
+
+        UserCache otherInstance = cache(secondTier);
+        StepVerifier.create(otherInstance.get("u1", id -> Mono.error(new IllegalStateException("no debe cargarse"))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        cache.evict("u1").block();
+        assertThat(secondTier.size()).isZero();
+    }
+
+    private UserCache cache(UserCacheTier secondTier) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCacheTier", secondTier);
+        return new UserCache(100, Duration.ofMinutes(1), beanFactory.getBeanProvider(UserCacheTier.class),
+                meterRegistry);
+    }
+
+    private User user(String userId) {
+        return User.builder().userId(userId).userName("user-" + userId).build();
+    }
+}
@@ -0,0 +1,98 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.client;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstitutionServiceTest {
+
+    private final Map<String, AtomicInteger> callsByPath = new ConcurrentHashMap<>();
+
+    private MockWebServer server;
+
+    private InstitutionService institutionService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                callsByPath.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+                if (path.endsWith("/missing")) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                if (path.endsWith("/slow")) {
+                    return institution("slow").setBodyDelay(1, TimeUnit.SECONDS);
+                }
+                String id = path.substring(path.lastIndexOf('/') + 1);
+                return institution(id).setBodyDelay(50, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        institutionService = new InstitutionService(
+                WebClient.create(server.url("/").toString()), Duration.ofMillis(300), 4, Duration.ofMinutes(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void resolvesEachDistinctInstitutionOnce() {
+        List<String> ids = List.of("a", "b", "a", "c", "b", "a", "missing");
+
+        StepVerifier.create(institutionService.getInstitutionsByIds(ids))
+                .assertNext(institutions -> {
+                    assertThat(institutions).containsOnlyKeys("a", "b", "c");
+                    assertThat(institutions.get("a").getName()).isEqualTo("Institución a");
+                })
+                .verifyComplete();
+
+        assertThat(server.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    void coalescesConcurrentLookupsForTheSameInstitution() {
+        StepVerifier.create(Flux.range(0, 20)
+                        .flatMap(i -> institutionService.getInstitutionById("a")))
+                .expectNextCount(20)
+                .verifyComplete();
+
+        assertThat(callsByPath.get("/api/v1/institutions/a")).hasValue(1);
+    }
+
+    @Test
+    void failsSlowCallsWithTheConfiguredTimeout() {
+        StepVerifier.create(institutionService.getInstitutionById("slow"))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private MockResponse institution(String id) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"success\":true,\"message\":\"ok\",\"data\":{\"institutionId\":\"" + id
+                        + "\",\"name\":\"Institución " + id + "\"}}");
+    }
+}
@@ -0,0 +1,134 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.export;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCsvWriterTest {
+
+    @Test
+    void writesEscapedRowsInGzipBlocksThatEndOnRowBoundaries() throws IOException {
+        List<User> users = List.of(
+                user("u1", "Ana", "Av. Grau 123, Cañete"),
+                user("u2", "José \"Pepe\"", null),
+                user("u3", "Luz", "Jr. Lima\nInt. 2"));
+
+        List<byte[]> chunks = Flux.from(UserCsvWriter.write(Flux.fromIterable(users),
+                        DefaultDataBufferFactory.sharedInstance, true, true, 2))
+                .map(this::drain)
+                .collectList()
+                .block();
+
+        // encabezado, dos lotes de filas y el cierre gzip
+        assertThat(chunks).hasSize(4);
+        String csv = gunzip(concat(chunks));
+        assertThat(csv.split("\r\n", -1)).containsExactly(
+                String.join(",", UserCsvWriter.COLUMNS),
+                "u1,inst-1,Ana,Quispe,,,,\"Av. Grau 123, Cañete\",,,PROFESOR,ACTIVE,,",
+                "u2,inst-1,\"José \"\"Pepe\"\"\",Quispe,,,,,,,PROFESOR,ACTIVE,,",
+                "u3,inst-1,Luz,Quispe,,,,\"Jr. Lima\nInt. 2\",,,PROFESOR,ACTIVE,,",
+                "");
+
+        // un corte tras el primer lote deja un prefijo que se puede descomprimir hasta la última fila completa
+        String partial = gunzipPrefix(concat(chunks.subList(0, 2)));
+        assertThat(partial).endsWith("\r\n").contains("Cañete", "Pepe").doesNotContain("Luz");
+    }
+
+    @Test
+    void omitsHeaderWhenResuming() {
+        String csv = Flux.from(UserCsvWriter.write(Flux.just(user("u9", "Ana", null)),
+                        DefaultDataBufferFactory.sharedInstance, false, false, 500))
+                .map(buffer -> new String(drain(buffer), StandardCharsets.UTF_8))
+                .collectList()
+                .map(parts -> String.join("", parts))
+                .block();
+
+        assertThat(csv).isEqualTo("u9,inst-1,Ana,Quispe,,,,,,,PROFESOR,ACTIVE,,\r\n");
+    }
+
+    @Test
+    void neutralizesCellsThatSpreadsheetsWouldEvaluateAsFormulas() {
+        assertThat(UserCsvWriter.escape("=HYPERLINK(\"http://x\",\"Ana\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\",\"\"Ana\"\")\"");
+        assertThat(UserCsvWriter.escape("+51 999 888 777", false)).isEqualTo("+51 999 888 777");
+        assertThat(UserCsvWriter.escape("-2+3")).isEqualTo("'-2+3");
+        assertThat(UserCsvWriter.escape("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(UserCsvWriter.escape("Ana=Luz")).isEqualTo("Ana=Luz");
+        assertThat(UserCsvWriter.escape("=1+1", false)).isEqualTo("'=1+1");
+    }
+
+    @Test
+    void exportsValidPhonesUnchanged() {
+        User user = user("u1", "+Ana", null);
+        user.setPhone("+51 999 888 777");
+
+        String csv = Flux.from(UserCsvWriter.write(Flux.just(user),
+                        DefaultDataBufferFactory.sharedInstance, false, false, 500))
+                .map(buffer -> new String(drain(buffer), StandardCharsets.UTF_8))
+                .collectList()
+                .map(parts -> String.join("", parts))
+                .block();
+
+        assertThat(csv).isEqualTo("u1,inst-1,'+Ana,Quispe,,,+51 999 888 777,,,,PROFESOR,ACTIVE,,\r\n");
+    }
+
+    private User user(String userId, String firstName, String address) {
+        return User.builder()
+                .userId(userId)
+                .institutionId("inst-1")
+                .firstName(firstName)
+                .lastName("Quispe")
+                .address(address)
+                .role(UserRole.PROFESOR)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private byte[] drain(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private byte[] concat(List<byte[]> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chunks.forEach(out::writeBytes);
+        return out.toByteArray();
+    }
+
+    private String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String gunzipPrefix(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] chunk = new byte[1024];
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                out.write(chunk, 0, read);
+            }
+        } catch (EOFException expected) {
+            // falta el trailer gzip: se conserva lo descomprimido hasta el último bloque vaciado
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
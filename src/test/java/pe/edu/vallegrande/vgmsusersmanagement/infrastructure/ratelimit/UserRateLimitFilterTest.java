@@ -0,0 +1,75 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimitFilterTest {
+
+    private static final WebFilterChain PASS = exchange -> Mono.empty();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsListingsOverBudgetWhileLookupsAndOtherClientsContinue() {
+        UserRateLimitFilter filter = filter(2, 64);
+
+        assertThat(status(filter, get("/api/v1/users", "10.0.0.1"))).isNull();
+        assertThat(status(filter, get("/api/v1/users/status/ACTIVE", "10.0.0.1"))).isNull();
+
+        MockServerWebExchange rejected = get("/api/v1/users/search?q=ana", "10.0.0.1");
+        assertThat(status(filter, rejected)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+
+        assertThat(status(filter, get("/api/v1/users/u1", "10.0.0.1"))).isNull();
+        assertThat(status(filter, get("/api/v1/users", "10.0.0.2"))).isNull();
+        assertThat(status(filter, get("/actuator/health", "10.0.0.1"))).isNull();
+        assertThat(meterRegistry.get("users.ratelimit.rejected")
+                .tags("category", "listing", "reason", "rate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void capsInFlightListingsAndReleasesSlotWhenResponseCompletes() {
+        UserRateLimitFilter filter = filter(100, 1);
+        Sinks.Empty<Void> slowQuery = Sinks.empty();
+
+        Disposable first = filter.filter(get("/api/v1/users", "10.0.0.1"), exchange -> slowQuery.asMono())
+                .subscribe();
+        assertThat(status(filter, get("/api/v1/users/page", "10.0.0.2"))).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(status(filter, get("/api/v1/users/u1", "10.0.0.2"))).isNull();
+
+        slowQuery.tryEmitEmpty();
+        assertThat(first.isDisposed()).isTrue();
+        assertThat(status(filter, get("/api/v1/users/page", "10.0.0.2"))).isNull();
+        assertThat(meterRegistry.get("users.ratelimit.rejected")
+                .tags("category", "listing", "reason", "concurrency").counter().count()).isEqualTo(1);
+    }
+
+    private UserRateLimitFilter filter(long listingCapacity, int maxInFlightListings) {
+        return new UserRateLimitFilter(new ObjectMapper(), meterRegistry, listingCapacity, 0.001, 200, 100,
+                maxInFlightListings, 4, 1000, Duration.ofMinutes(10));
+    }
+
+    private MockServerWebExchange get(String uri, String clientIp) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri)
+                .remoteAddress(new InetSocketAddress(clientIp, 40000)));
+    }
+
+    private HttpStatus status(UserRateLimitFilter filter, MockServerWebExchange exchange) {
+        filter.filter(exchange, PASS).block();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+}
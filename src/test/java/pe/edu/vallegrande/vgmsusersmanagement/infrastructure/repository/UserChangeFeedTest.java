@@ -0,0 +1,120 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserEvent;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.routing.UserReadRouting;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.TenancyMode;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.UserTenancy;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Change streams y consulta de cambios contra un replica set de un nodo levantado con Testcontainers. Se omite
+ * si no hay Docker disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserChangeFeedTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+
+    private static ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void connect() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new ReactiveMongoTemplate(client, "users_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), User.class).block();
+    }
+
+    @Test
+    void resumesChangeStreamAfterLastDeliveredEvent() throws InterruptedException {
+        UserChangeStream changeStream = new UserChangeStream(mongoTemplate);
+
+        ConnectableFlux<UserEvent> live = changeStream.watch(null).replay();
+        Disposable connection = live.connect();
+        // El cursor del change stream se abre de forma asíncrona tras la suscripción
+        Thread.sleep(1_000);
+        mongoTemplate.insert(user("ana")).block();
+        UserEvent first = live.blockFirst(TIMEOUT);
+        assertThat(first.getType()).isEqualTo(UserEvent.Type.CREATED);
+        assertThat(first.getResumeToken()).isNotBlank();
+        connection.dispose();
+
+        User second = mongoTemplate.insert(user("bruno")).block();
+        mongoTemplate.updateFirst(Query.query(Criteria.where("userId").is(second.getUserId())),
+                Update.update("status", UserStatus.INACTIVE), User.class).block();
+
+        List<UserEvent> resumed = changeStream.watch(first.getResumeToken()).take(2).collectList().block(TIMEOUT);
+        assertThat(resumed).extracting(UserEvent::getType)
+                .containsExactly(UserEvent.Type.CREATED, UserEvent.Type.UPDATED);
+        assertThat(resumed).extracting(UserEvent::getUserId).containsOnly(second.getUserId());
+        assertThat(resumed.get(1).getUser().getStatus()).isEqualTo(UserStatus.INACTIVE);
+    }
+
+    @Test
+    void pagesChangesSinceByUpdatedAt() {
+        UserRepositoryCustomImpl repository = new UserRepositoryCustomImpl(mongoTemplate,
+                new UserTenancy(TenancyMode.SHARED), new UserReadRouting(mongoTemplate, ReadPreference.primary()));
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            User user = user("user" + i);
+            // Dos usuarios con la misma fecha para cubrir el desempate por _id
+            user.setUpdatedAt(base.plusMinutes(Math.min(i, 3)));
+            mongoTemplate.insert(user).block();
+        }
+
+        List<User> firstPage = repository.findChangedSince(base, null, 2).collectList().block(TIMEOUT);
+        assertThat(firstPage).extracting(User::getUserName).containsExactly("user1", "user2");
+
+        UserCursor cursor = UserCursor.decode(UserCursor.ofUpdate(firstPage.get(1)).encode());
+        List<User> secondPage = repository.findChangedSince(base, cursor, 10).collectList().block(TIMEOUT);
+        assertThat(secondPage).extracting(User::getUserName).containsExactly("user3", "user4");
+    }
+
+    private User user(String userName) {
+        return User.builder()
+                .firstName(userName)
+                .lastName("Prueba")
+                .userName(userName)
+                .documentNumber(userName + "-doc")
+                .status(UserStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.index;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIndexManagerTest {
+
+    @Test
+    void reportsSameKeysWithDifferentOptionsAsDrift() {
+        Index declared = new Index().on("userName", Sort.Direction.ASC).named("userName_unique").unique().sparse();
+
+        assertThat(UserIndexManager.sameDefinition(declared,
+                live(new Document("userName", 1), true, true, null))).isTrue();
+        assertThat(UserIndexManager.sameDefinition(declared,
+                live(new Document("userName", 1), false, true, null))).isFalse();
+        assertThat(UserIndexManager.sameDefinition(declared,
+                live(new Document("userName", 1), true, false, null))).isFalse();
+        assertThat(UserIndexManager.sameDefinition(declared,
+                live(new Document("userName", -1), true, true, null))).isFalse();
+    }
+
+    @Test
+    void comparesPartialFilterExpressions() {
+        Index declared = new Index().on("idempotencyKey", Sort.Direction.ASC).named("idempotencyKey_unique")
+                .unique()
+                .partial(PartialIndexFilter.of(Criteria.where("idempotencyKey").exists(true)));
+
+        assertThat(UserIndexManager.sameDefinition(declared, live(new Document("idempotencyKey", 1), true, false,
+                new Document("idempotencyKey", new Document("$exists", true))))).isTrue();
+        assertThat(UserIndexManager.sameDefinition(declared,
+                live(new Document("idempotencyKey", 1), true, false, null))).isFalse();
+    }
+
+    private static IndexInfo live(Document keys, boolean unique, boolean sparse, Document partialFilter) {
+        Document index = new Document("name", "live").append("key", keys).append("unique", unique)
+                .append("sparse", sparse);
+        if (partialFilter != null) {
+            index.append("partialFilterExpression", partialFilter);
+        }
+        return IndexInfo.indexInfoOf(index);
+    }
+}
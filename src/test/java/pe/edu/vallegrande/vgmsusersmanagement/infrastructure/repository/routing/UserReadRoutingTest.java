@@ -0,0 +1,161 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.routing;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserSummary;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepositoryCustomImpl;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.TenancyMode;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant.UserTenancy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Enrutamiento de lecturas contra un replica set de un nodo levantado con Testcontainers: con
+ * {@code secondaryPreferred} y sin secundarios el primario atiende todo, así que se inspecciona la preferencia
+ * que el driver envía en cada comando. Se omite si no hay Docker disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserReadRoutingTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ReadPreference LISTING = ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS);
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    /** Última preferencia enviada por comando ({@code find}, {@code aggregate}...); sin clave si fue primary. */
+    private static final Map<String, BsonDocument> SENT = new ConcurrentHashMap<>();
+
+    private static MongoClient client;
+
+    private static ReactiveMongoTemplate mongoTemplate;
+
+    private UserRepositoryCustomImpl repository;
+
+    @BeforeAll
+    static void connect() {
+        CommandListener listener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                BsonDocument command = event.getCommand();
+                if (command.containsKey("$readPreference")) {
+                    SENT.put(event.getCommandName(), command.getDocument("$readPreference"));
+                } else {
+                    SENT.remove(event.getCommandName());
+                }
+            }
+        };
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl()))
+                .addCommandListener(listener)
+                .build());
+        mongoTemplate = new ReactiveMongoTemplate(client, "users_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        client.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        mongoTemplate.remove(new Query(), User.class).block();
+        repository = new UserRepositoryCustomImpl(mongoTemplate, new UserTenancy(TenancyMode.SHARED),
+                new UserReadRouting(mongoTemplate, LISTING));
+        SENT.clear();
+    }
+
+    @Test
+    void sendsListingsWithBoundedStalenessAndReadsByIdFromPrimary() {
+        User written = mongoTemplate.insert(user("ana", LocalDateTime.now())).block();
+
+        assertThat(repository.listByStatus(UserStatus.ACTIVE).collectList().block(TIMEOUT)).hasSize(1);
+        assertThat(SENT.get("find").getString("mode").getValue()).isEqualTo("secondaryPreferred");
+        assertThat(SENT.get("find").getNumber("maxStalenessSeconds").longValue()).isEqualTo(120);
+
+        assertThat(repository.listAll(UserSummary.class).collectList().block(TIMEOUT))
+                .extracting(UserSummary::getFirstName).containsExactly("ana");
+        assertThat(SENT).containsKey("find");
+
+        assertThat(repository.aggregateStatistics().block(TIMEOUT).getTotal()).isEqualTo(1);
+        assertThat(SENT.get("aggregate").getString("mode").getValue()).isEqualTo("secondaryPreferred");
+
+        // Los contadores persistentes se reconstruyen siempre desde el primario
+        assertThat(repository.aggregateStatistics(true).block(TIMEOUT).getTotal()).isEqualTo(1);
+        assertThat(SENT).doesNotContainKey("aggregate");
+
+        // Lee lo que acaba de escribir: la lectura por ID no lleva preferencia, así que la atiende el primario
+        assertThat(repository.findByIdInTenant(written.getUserId(), null).block(TIMEOUT)).isNotNull();
+        assertThat(SENT).doesNotContainKey("find");
+    }
+
+    @Test
+    void omitsValidatorUntilLastWriteIsOlderThanMaxStaleness() {
+        mongoTemplate.insert(user("ana", LocalDateTime.now())).block();
+        assertThat(repository.collectionVersion(null).blockOptional(TIMEOUT)).isEmpty();
+
+        mongoTemplate.remove(new Query(), User.class).block();
+        LocalDateTime old = LocalDateTime.now().minusMinutes(10).withNano(0);
+        mongoTemplate.insert(user("ana", old)).block();
+        assertThat(repository.collectionVersion(null).block(TIMEOUT).getLastUpdatedAt()).isEqualTo(old);
+
+        UserRepositoryCustomImpl unbounded = new UserRepositoryCustomImpl(mongoTemplate,
+                new UserTenancy(TenancyMode.SHARED),
+                new UserReadRouting(mongoTemplate, ReadPreference.secondaryPreferred()));
+        assertThat(unbounded.collectionVersion(null).blockOptional(TIMEOUT)).isEmpty();
+    }
+
+    @Test
+    void validatesConfiguredPreference() {
+        assertThat(UserReadRouting.preference("primary", Duration.ZERO, List.of("")))
+                .isEqualTo(ReadPreference.primary());
+        assertThat(UserReadRouting.preference("secondaryPreferred", Duration.ofSeconds(120),
+                List.of("nodeType:ANALYTICS")))
+                .isEqualTo(ReadPreference.valueOf("secondaryPreferred",
+                        List.of(new TagSet(new Tag("nodeType", "ANALYTICS"))),
+                        120, TimeUnit.SECONDS));
+        assertThatThrownBy(() -> UserReadRouting.preference("primary", Duration.ofSeconds(120), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserReadRouting.preference("secondary", Duration.ofSeconds(30), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserReadRouting.preference("nearest", Duration.ZERO, List.of("ANALYTICS")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static User user(String firstName, LocalDateTime updatedAt) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setUserName(firstName);
+        user.setStatus(UserStatus.ACTIVE);
+        user.setUpdatedAt(updatedAt);
+        return user;
+    }
+}
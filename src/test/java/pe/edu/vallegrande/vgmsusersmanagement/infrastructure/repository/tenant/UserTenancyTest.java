@@ -0,0 +1,57 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.tenant;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTenancyTest {
+
+    @Test
+    void prefixesUniqueIndexesWithShardKeyOnlyWhenSharded() {
+        List<IndexDefinition> declared = declaredIndexes();
+
+        assertThat(new UserTenancy(TenancyMode.SHARED).indexes(declared)).isSameAs(declared);
+
+        Map<String, IndexDefinition> sharded = new UserTenancy(TenancyMode.SHARDED).indexes(declared).stream()
+                .collect(Collectors.toMap(definition -> definition.getIndexOptions().getString("name"),
+                        Function.identity()));
+        assertThat(sharded).doesNotContainKeys("documentNumber_unique", "userName_unique", "idempotencyKey_unique")
+                .containsKeys("tenant_documentNumber_unique", "page_institution_createdAt");
+
+        IndexDefinition documentNumber = sharded.get("tenant_documentNumber_unique");
+        assertThat(documentNumber.getIndexKeys().keySet()).containsExactly("institutionId", "documentNumber");
+        assertThat(documentNumber.getIndexOptions())
+                .containsEntry("unique", true)
+                .doesNotContainKey("sparse")
+                .containsEntry("partialFilterExpression",
+                        new Document("documentNumber", new Document("$exists", true)));
+    }
+
+    @Test
+    void addsShardKeyToUpsertFilterOnlyWhenSharded() {
+        Query shared = new UserTenancy(TenancyMode.SHARED).upsertScope(new Query(), "inst-1");
+        Query sharded = new UserTenancy(TenancyMode.SHARDED).upsertScope(new Query(), "inst-1");
+
+        assertThat(shared.getQueryObject()).isEmpty();
+        assertThat(sharded.getQueryObject()).containsEntry("institutionId", "inst-1");
+    }
+
+    private List<IndexDefinition> declaredIndexes() {
+        List<IndexDefinition> definitions = new ArrayList<>();
+        new MongoPersistentEntityIndexResolver(new MongoMappingContext()).resolveIndexFor(User.class)
+                .forEach(definitions::add);
+        return definitions;
+    }
+}
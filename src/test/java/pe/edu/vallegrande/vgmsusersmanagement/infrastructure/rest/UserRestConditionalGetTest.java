@@ -0,0 +1,99 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRestConditionalGetTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 10, 8, 30, 15);
+
+    @Test
+    void answersNotModifiedForUnchangedListingWithoutQueryingIt() {
+        UserService userService = mock(UserService.class);
+        when(userService.getUsersVersion(any())).thenReturn(Mono.just(new UserCollectionVersion(2, UPDATED_AT)));
+        when(userService.getAllUsers()).thenReturn(Flux.just(user(1L), user(2L)));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, 256)).build();
+
+        String etag = client.get()
+                .uri("/api/v1/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertThat(etag).startsWith("W/");
+
+        UserService unchanged = mock(UserService.class);
+        when(unchanged.getUsersVersion(any())).thenReturn(Mono.just(new UserCollectionVersion(2, UPDATED_AT)));
+        WebTestClient.bindToController(new UserRest(unchanged, 256)).build()
+                .get()
+                .uri("/api/v1/users")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        verify(unchanged, never()).getAllUsers();
+
+        when(unchanged.getUsersVersion(any())).thenReturn(Mono.just(new UserCollectionVersion(3, UPDATED_AT)));
+        when(unchanged.getAllUsers()).thenReturn(Flux.just(user(1L), user(2L), user(1L)));
+        WebTestClient.bindToController(new UserRest(unchanged, 256)).build()
+                .get()
+                .uri("/api/v1/users")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.length()").isEqualTo(3);
+    }
+
+    @Test
+    void answersNotModifiedForUnchangedUserVersion() {
+        UserService userService = mock(UserService.class);
+        when(userService.getUserById("u1", null)).thenReturn(Mono.just(user(4L)));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, 256)).build();
+
+        client.get()
+                .uri("/api/v1/users/u1")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"4\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        client.get()
+                .uri("/api/v1/users/u1")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"4\"");
+    }
+
+    private User user(Long version) {
+        return User.builder()
+                .userId("u1")
+                .firstName("Ana")
+                .lastName("Quispe")
+                .userName("ana.quispe")
+                .role(UserRole.PROFESOR)
+                .status(UserStatus.ACTIVE)
+                .updatedAt(UPDATED_AT)
+                .version(version)
+                .build();
+    }
+}
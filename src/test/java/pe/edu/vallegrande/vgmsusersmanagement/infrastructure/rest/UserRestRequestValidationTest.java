@@ -0,0 +1,242 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.impl.UserServiceImpl;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.NoOpUserCacheTier;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCache;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.cache.UserCacheTier;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.BulkItemResult;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserCreation;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserChange;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.UserRepository;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.counter.NoOpUserCounters;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserRestRequestValidationTest {
+
+    @Test
+    void rejectsInvalidPayloadsWithoutCallingTheService() {
+        UserService userService = mock(UserService.class);
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, 256)).build();
+
+        client.post()
+                .uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("firstName", "Ana", "lastName", " ", "email", "ana@", "userName", "ana"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.message").value(message -> assertThat((String) message)
+                        .contains("lastName es obligatorio", "documentNumber es obligatorio",
+                                "email no es un correo válido", "role es obligatorio"));
+
+        client.post()
+                .uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"firstName\":\"Ana\",\"role\":\"ALUMNO\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false);
+
+        client.patch()
+                .uri("/api/v1/users/u1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("userName", ""))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.patch()
+                .uri("/api/v1/users/u1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("institutionId", " "))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.put()
+                .uri("/api/v1/users/u1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("institutionId", "", "firstName", "Ana", "lastName", "Quispe",
+                        "documentNumber", "70000001", "userName", "ana"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void reportsInvalidBulkItemsWithoutInsertingThem() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.insertUnordered(anyList())).thenReturn(Mono.just(List.of()));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService(userRepository), 256)).build();
+
+        List<BulkItemResult> results = client.post()
+                .uri("/api/v1/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(List.of(
+                        Map.of("firstName", "Ana", "lastName", "Quispe", "documentNumber", "70000001",
+                                "userName", "ana", "role", "PROFESOR", "email", "ana@"),
+                        Map.of("firstName", "Luis", "lastName", "Mamani", "documentNumber", "70000002",
+                                "userName", "luis", "role", "PROFESOR")))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BulkItemResult.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).extracting(BulkItemResult::getIndex, BulkItemResult::getStatus)
+                .containsExactly(tuple(0L, BulkItemResult.Status.INVALID), tuple(1L, BulkItemResult.Status.CREATED));
+        assertThat(results.get(0).getMessage()).contains("email no es un correo válido");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).insertUnordered(inserted.capture());
+        assertThat(inserted.getValue()).extracting(User::getUserName).containsExactly("luis");
+    }
+
+    @Test
+    void keepsInstitutionWhenPutOmitsIt() {
+        UserRepository userRepository = mock(UserRepository.class);
+        User previous = User.builder().userId("u1").institutionId("inst-1").version(0L).build();
+        when(userRepository.updateFields(eq("u1"), anyMap(), isNull()))
+                .thenReturn(Mono.just(new UserChange(previous, previous)));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService(userRepository), 256)).build();
+
+        client.put()
+                .uri("/api/v1/users/u1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("firstName", "Ana", "lastName", "Quispe", "documentNumber", "70000001",
+                        "userName", "ana"))
+                .exchange()
+                .expectStatus().isOk();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(userRepository).updateFields(eq("u1"), fields.capture(), isNull());
+        assertThat(fields.getValue()).doesNotContainKey("institutionId").containsEntry("firstName", "Ana");
+    }
+
+    @Test
+    void reportsOnlyUnknownViewsAsBadRequest() {
+        UserService userService = mock(UserService.class);
+        when(userService.getUsersVersion(any())).thenReturn(Mono.empty());
+        when(userService.getAllUsers(any(Class.class)))
+                .thenReturn(Flux.error(new IllegalArgumentException("cursor corrupto")));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, 256)).build();
+
+        client.get()
+                .uri("/api/v1/users?view=unknown")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.get()
+                .uri("/api/v1/users?view=summary")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().is5xxServerError();
+    }
+
+    @Test
+    void reportsOnlyUnreadablePageParametersAsBadRequest() {
+        UserService userService = mock(UserService.class);
+        when(userService.getUsersPage(any(), any(), any(), any(), anyInt()))
+                .thenReturn(Mono.error(new IllegalArgumentException("respuesta del driver inválida")));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, 256)).build();
+
+        client.get()
+                .uri("/api/v1/users/page?cursor=no!cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get()
+                .uri("/api/v1/users/page?status=BORRADO")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(userService);
+
+        client.get()
+                .uri("/api/v1/users/page?status=active")
+                .exchange()
+                .expectStatus().is5xxServerError();
+    }
+
+    @Test
+    void mapsOnlyClientFieldsToTheEntity() {
+        UserService userService = mock(UserService.class);
+        when(userService.createUser(any(User.class), isNull())).thenAnswer(invocation -> Mono.just(
+                UserCreation.builder().user(invocation.getArgument(0)).replayed(false).build()));
+        when(userService.patchUser(anyString(), any(User.class), anySet())).thenReturn(Mono.just(new User()));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, 256)).build();
+
+        client.post()
+                .uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"userId\":\"forged\",\"version\":7,\"firstName\":\" Ana \",\"lastName\":\"Quispe\","
+                        + "\"documentNumber\":\"70000001\",\"userName\":\"ana.quispe\",\"role\":\"PROFESOR\","
+                        + "\"phone\":\"\"}")
+                .exchange()
+                .expectStatus().isCreated();
+
+        ArgumentCaptor<User> created = ArgumentCaptor.forClass(User.class);
+        verify(userService).createUser(created.capture(), isNull());
+        assertThat(created.getValue().getUserId()).isNull();
+        assertThat(created.getValue().getVersion()).isNull();
+        assertThat(created.getValue().getFirstName()).isEqualTo("Ana");
+        assertThat(created.getValue().getPhone()).isNull();
+        assertThat(created.getValue().getRole()).isEqualTo(UserRole.PROFESOR);
+
+        client.patch()
+                .uri("/api/v1/users/u1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("phone", "", "address", " Av. Sol ", "version", 3))
+                .exchange()
+                .expectStatus().isOk();
+
+        ArgumentCaptor<User> changes = ArgumentCaptor.forClass(User.class);
+        verify(userService).patchUser(eq("u1"), changes.capture(), eq(Set.of("phone")));
+        assertThat(changes.getValue().getPhone()).isNull();
+        assertThat(changes.getValue().getAddress()).isEqualTo("Av. Sol");
+        assertThat(changes.getValue().getFirstName()).isNull();
+        assertThat(changes.getValue().getVersion()).isEqualTo(3L);
+    }
+
+    /** Servicio real sobre un repositorio simulado, sin caché distribuida ni contadores. */
+    private static UserService userService(UserRepository userRepository) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCacheTier", new NoOpUserCacheTier());
+        UserCache userCache = new UserCache(100, Duration.ofMinutes(1),
+                beanFactory.getBeanProvider(UserCacheTier.class), new SimpleMeterRegistry());
+        return new UserServiceImpl(userRepository, userCache, new NoOpUserCounters(), 500, 2);
+    }
+}
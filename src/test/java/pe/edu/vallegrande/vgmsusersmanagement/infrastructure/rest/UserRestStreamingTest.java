@@ -0,0 +1,124 @@
+package pe.edu.vallegrande.vgmsusersmanagement.infrastructure.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.edu.vallegrande.vgmsusersmanagement.application.service.UserService;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.UserCollectionVersion;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.UserSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserRestStreamingTest {
+
+    private static final int USERS = 100_000;
+
+    private static final int BATCH_SIZE = 256;
+
+    @Test
+    void streamsAllUsersAsNdjsonWithBoundedDemand() {
+        AtomicLong maxRequested = new AtomicLong();
+        AtomicLong produced = new AtomicLong();
+        Flux<User> source = Flux.range(0, USERS)
+                .map(this::user)
+                .doOnNext(user -> produced.incrementAndGet())
+                .doOnRequest(n -> maxRequested.accumulateAndGet(n, Math::max));
+
+        UserService userService = mock(UserService.class);
+        when(userService.getAllUsers()).thenReturn(source);
+
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, BATCH_SIZE)).build();
+
+        Flux<User> body = client.get()
+                .uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(User.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNextCount(USERS)
+                .verifyComplete();
+
+        assertThat(produced.get()).isEqualTo(USERS);
+        assertThat(maxRequested.get()).isLessThanOrEqualTo(BATCH_SIZE);
+    }
+
+    @Test
+    void keepsEnvelopeAsDefaultRepresentation() {
+        UserService userService = mock(UserService.class);
+        when(userService.getAllUsers()).thenReturn(Flux.range(0, 3).map(this::user));
+        when(userService.getUsersVersion(any())).thenReturn(Mono.just(new UserCollectionVersion(3, null)));
+
+        WebTestClient.bindToController(new UserRest(userService, BATCH_SIZE)).build()
+                .get()
+                .uri("/api/v1/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.length()").isEqualTo(3);
+    }
+
+    @Test
+    void rejectsInvalidStatusBeforeStreaming() {
+        UserService userService = mock(UserService.class);
+
+        WebTestClient.bindToController(new UserRest(userService, BATCH_SIZE)).build()
+                .get()
+                .uri("/api/v1/users/status/unknown")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void servesProjectedViewWhenRequested() {
+        UserService userService = mock(UserService.class);
+        when(userService.getAllUsers(UserSummary.class)).thenReturn(Flux.range(0, 3)
+                .map(this::user)
+                .map(user -> new UserSummary(user.getUserId(), user.getInstitutionId(), user.getFirstName(),
+                        user.getLastName(), user.getRole(), user.getStatus())));
+        when(userService.getUsersVersion(any())).thenReturn(Mono.just(new UserCollectionVersion(3, null)));
+        WebTestClient client = WebTestClient.bindToController(new UserRest(userService, BATCH_SIZE)).build();
+
+        client.get()
+                .uri("/api/v1/users?view=summary")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(3)
+                .jsonPath("$.data[0].role").isEqualTo("PADRE")
+                .jsonPath("$.data[0].userName").doesNotExist();
+
+        client.get()
+                .uri("/api/v1/users?view=everything")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private User user(int index) {
+        return User.builder()
+                .userId(String.format("%024x", index))
+                .institutionId("institution-" + (index % 50))
+                .firstName("Nombre" + index)
+                .lastName("Apellido" + index)
+                .userName("user" + index)
+                .role(UserRole.PADRE)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+}
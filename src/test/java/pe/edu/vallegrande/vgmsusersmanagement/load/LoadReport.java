@@ -0,0 +1,78 @@
+package pe.edu.vallegrande.vgmsusersmanagement.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado de una corrida de {@link UserLoadTest}. El mismo formato se usa como línea base en
+ * {@code src/test/resources/load/baseline.json}, que se genera con una corrida real
+ * ({@code -Dload.update-baseline=true}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+
+    private int users;
+
+    private int requests;
+
+    private int concurrency;
+
+    private double throughputPerSecond;
+
+    private long errors;
+
+    /** Bytes asignados por el event loop del servidor por petición atendida; excluye al cliente de la prueba. */
+    private double allocatedBytesPerRequest;
+
+    private Map<String, OperationStats> operations = new TreeMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OperationStats {
+
+        private long count;
+
+        private double p50Millis;
+
+        private double p95Millis;
+
+        private double p99Millis;
+    }
+
+    /**
+     * Regresiones frente a {@code baseline} con la tolerancia relativa indicada (0.25 = 25 %). Las operaciones
+     * que no están en la línea base no se comparan.
+     */
+    public List<String> regressionsAgainst(LoadReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        if (throughputPerSecond < baseline.throughputPerSecond * (1 - tolerance)) {
+            regressions.add(String.format("throughput %.1f req/s < línea base %.1f req/s",
+                    throughputPerSecond, baseline.throughputPerSecond));
+        }
+        if (baseline.allocatedBytesPerRequest > 0
+                && allocatedBytesPerRequest > baseline.allocatedBytesPerRequest * (1 + tolerance)) {
+            regressions.add(String.format("asignación %.0f B/petición > línea base %.0f B/petición",
+                    allocatedBytesPerRequest, baseline.allocatedBytesPerRequest));
+        }
+        baseline.operations.forEach((operation, expected) -> {
+            OperationStats actual = operations.get(operation);
+            if (actual != null && actual.p99Millis > expected.p99Millis * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 %.1f ms > línea base %.1f ms",
+                        operation, actual.p99Millis, expected.p99Millis));
+            }
+        });
+        if (errors > 0) {
+            regressions.add(errors + " peticiones con error");
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,402 @@
+package pe.edu.vallegrande.vgmsusersmanagement.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.MongoDBContainer;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserRole;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.enums.UserStatus;
+import pe.edu.vallegrande.vgmsusersmanagement.domain.model.User;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.dto.response.BulkItemResult;
+import pe.edu.vallegrande.vgmsusersmanagement.infrastructure.repository.index.UserIndexManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.LoopResources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga de los endpoints de {@code UserRest} contra un MongoDB local: por defecto un replica set de
+ * Testcontainers, o el indicado en {@code -Dload.mongo.uri}. Siembra {@code load.users} usuarios, ejecuta
+ * {@code load.requests} peticiones mixtas de lectura y escritura con {@code load.concurrency} en vuelo y compara
+ * throughput, p99 por operación y asignación por petición con {@code load/baseline.json}.
+ * <p>
+ * Se ejecuta solo con {@code ./mvnw -Pload test}. Con {@code -Dload.update-baseline=true} la corrida reescribe la
+ * línea base en lugar de compararse con ella; sin línea base medida la prueba falla.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Slf4j
+class UserLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 10_000);
+
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup-requests", 2_000);
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("load.update-baseline");
+
+    private static final String BASELINE_RESOURCE = "/load/baseline.json";
+
+    private static final Path BASELINE_SOURCE = Path.of("src/test/resources/load/baseline.json");
+
+    private static final Path RESULT = Path.of("target/load-test/result.json");
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    /** Hilos del event loop del servidor; el cliente corre en {@link #CLIENT_THREAD_PREFIX} para no mezclarse. */
+    private static final String SERVER_THREAD_PREFIX = "reactor-http-";
+
+    private static final String CLIENT_THREAD_PREFIX = "load-client";
+
+    private static MongoDBContainer mongo;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<User> seeded = new ArrayList<>();
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final AtomicLong errors = new AtomicLong();
+
+    private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private WebClient client;
+
+    private LoopResources clientLoop;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserIndexManager userIndexManager;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry properties) {
+        String configuredUri = System.getProperty("load.mongo.uri");
+        if (configuredUri == null) {
+            mongo = new MongoDBContainer("mongo:7.0");
+            mongo.start();
+        }
+        String uri = configuredUri != null ? configuredUri : mongo.getReplicaSetUrl();
+        properties.add("spring.data.mongodb.uri", () -> uri);
+        properties.add("spring.data.mongodb.database", () -> "users_load");
+        properties.add("users.mongodb.indexes.mode", () -> "APPLY");
+        // Todas las peticiones salen del mismo cliente local: se mide el servicio, no el limitador
+        properties.add("users.ratelimit.enabled", () -> "false");
+        properties.add("logging.level.pe.edu.vallegrande.vgmsusersmanagement", () -> "WARN");
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        if (mongo != null) {
+            mongo.stop();
+        }
+    }
+
+    @AfterEach
+    void disposeClient() {
+        if (clientLoop != null) {
+            clientLoop.dispose();
+        }
+    }
+
+    @Test
+    void mixedTrafficStaysWithinBaseline() throws IOException {
+        clientLoop = LoopResources.create(CLIENT_THREAD_PREFIX, CONCURRENCY / 16 + 1, true);
+        client = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().runOn(clientLoop)))
+                .baseUrl("http://localhost:" + port + "/api/v1/users")
+                .build();
+        mongoTemplate.remove(new Query(), User.class).block();
+        userIndexManager.reconcile().block();
+        seed();
+        List<Operation> operations = operations();
+
+        run(operations, WARMUP_REQUESTS);
+        registry = new SimpleMeterRegistry();
+        errors.set(0);
+
+        Map<Long, Long> allocatedBefore = serverAllocatedBytes();
+        long start = System.nanoTime();
+        run(operations, REQUESTS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        long allocated = allocatedSince(allocatedBefore);
+
+        LoadReport report = report(operations, elapsedSeconds, allocated);
+        Files.createDirectories(RESULT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(RESULT.toFile(), report);
+        log.warn("Prueba de carga: {} req/s, {} B/petición, {} errores; detalle en {}",
+                String.format("%.1f", report.getThroughputPerSecond()),
+                String.format("%.0f", report.getAllocatedBytesPerRequest()), report.getErrors(), RESULT);
+        report.getOperations().forEach((name, stats) -> log.warn("  {}: n={} p50={} ms p95={} ms p99={} ms",
+                name, stats.getCount(), stats.getP50Millis(), stats.getP95Millis(), stats.getP99Millis()));
+
+        // Los errores no dependen de la línea base: una corrida con errores tampoco debe quedar como referencia
+        assertThat(report.getErrors()).as("Peticiones con error").isZero();
+        if (UPDATE_BASELINE) {
+            Files.createDirectories(BASELINE_SOURCE.getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(BASELINE_SOURCE.toFile(), report);
+            log.warn("Línea base actualizada en {}", BASELINE_SOURCE);
+            return;
+        }
+        LoadReport baseline;
+        try (InputStream input = getClass().getResourceAsStream(BASELINE_RESOURCE)) {
+            assertThat(input)
+                    .as("Sin línea base medida en %s; genérela con -Dload.update-baseline=true", BASELINE_SOURCE)
+                    .isNotNull();
+            baseline = objectMapper.readValue(input, LoadReport.class);
+        }
+        assertThat(report.regressionsAgainst(baseline, TOLERANCE))
+                .as("Regresiones frente a la línea base (tolerancia %.0f %%)", TOLERANCE * 100)
+                .isEmpty();
+    }
+
+    private void seed() {
+        Flux.range(0, USERS)
+                .map(this::newUser)
+                .buffer(SEED_BATCH_SIZE)
+                .concatMap(batch -> client.post()
+                        .uri("/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .body(Flux.fromIterable(batch), User.class)
+                        .retrieve()
+                        .bodyToFlux(BulkItemResult.class)
+                        .filter(result -> result.getStatus() == BulkItemResult.Status.CREATED)
+                        .doOnNext(result -> {
+                            User user = batch.get((int) result.getIndex());
+                            user.setUserId(result.getUserId());
+                            seeded.add(user);
+                        }))
+                .blockLast();
+        assertThat(seeded).hasSize(USERS);
+    }
+
+    /**
+     * Mezcla aproximada de tráfico: mayoría de lecturas puntuales y paginadas, algunos listados completos y un
+     * 30 % de escrituras.
+     */
+    private List<Operation> operations() {
+        return List.of(
+                new Operation("getUserById", 25, () -> call(client.get().uri("/{id}", randomUser().getUserId()))),
+                new Operation("getUsersPage", 12, () -> call(client.get().uri("/page?size=20&status=ACTIVE"))),
+                new Operation("searchUsers", 10, () -> call(client.get().uri("/search?q={q}",
+                        "nombre" + ThreadLocalRandom.current().nextInt(100)))),
+                new Operation("getStatistics", 4, () -> call(client.get().uri("/statistics"))),
+                new Operation("getUsersChangedSince", 4, () -> call(client.get().uri("/changes?size=100&since={since}",
+                        LocalDateTime.now().minusSeconds(30)))),
+                new Operation("getUsersSummaryView", 2, () -> call(client.get().uri("/status/ACTIVE?view=summary")
+                        .accept(MediaType.APPLICATION_NDJSON))),
+                new Operation("streamAllUsers", 1, () -> call(client.get().uri("")
+                        .accept(MediaType.APPLICATION_NDJSON))),
+                new Operation("getAllUsers", 1, () -> call(client.get().uri(""))),
+                new Operation("getUsersByStatus", 1, () -> call(client.get().uri("/status/INACTIVE"))),
+                new Operation("createUser", 8, () -> call(client.post().uri("")
+                        .bodyValue(newUser(USERS + created.incrementAndGet())))),
+                new Operation("importUsers", 2, () -> call(client.post().uri("/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(Flux.range(0, 10).map(i -> newUser(USERS + created.incrementAndGet())), User.class))),
+                new Operation("updateUser", 8, () -> {
+                    User user = randomUser();
+                    return call(client.put().uri("/{id}", user.getUserId()).bodyValue(user));
+                }),
+                new Operation("patchUser", 12, () -> call(client.patch().uri("/{id}", randomUser().getUserId())
+                        .bodyValue(Map.of("phone", "9" + ThreadLocalRandom.current().nextInt(10_000_000, 99_999_999))))),
+                new Operation("deleteUser", 5, () -> call(client.delete().uri("/{id}", randomUser().getUserId()))),
+                new Operation("restoreUser", 5, () -> call(client.patch().uri("/{id}/restore",
+                        randomUser().getUserId()))));
+    }
+
+    private void run(List<Operation> operations, int requests) {
+        int[] cumulativeWeights = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight;
+            cumulativeWeights[i] = total;
+        }
+        int totalWeight = total;
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+                    int index = 0;
+                    while (cumulativeWeights[index] <= pick) {
+                        index++;
+                    }
+                    return execute(operations.get(index));
+                }, CONCURRENCY)
+                .blockLast();
+    }
+
+    private Mono<HttpStatusCode> execute(Operation operation) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return operation.call.get().doOnNext(status -> {
+                        timer(operation.name).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        if (!status.is2xxSuccessful()) {
+                            errors.incrementAndGet();
+                        }
+                    });
+                })
+                .onErrorResume(error -> {
+                    errors.incrementAndGet();
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * El cuerpo se consume completo, como lo haría un cliente real, pero sin acumularlo en memoria.
+     */
+    private Mono<HttpStatusCode> call(WebClient.RequestHeadersSpec<?> request) {
+        return request.exchangeToMono(response -> response.bodyToFlux(DataBuffer.class)
+                .doOnNext(DataBufferUtils::release)
+                .then(Mono.just(response.statusCode())));
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("load.request")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .register(registry);
+    }
+
+    private LoadReport report(List<Operation> operations, double elapsedSeconds, long allocated) {
+        LoadReport report = new LoadReport();
+        report.setUsers(USERS);
+        report.setRequests(REQUESTS);
+        report.setConcurrency(CONCURRENCY);
+        report.setThroughputPerSecond(round(REQUESTS / elapsedSeconds));
+        report.setErrors(errors.get());
+        report.setAllocatedBytesPerRequest(Math.round((double) allocated / REQUESTS));
+        for (Operation operation : operations) {
+            HistogramSnapshot snapshot = timer(operation.name).takeSnapshot();
+            if (snapshot.count() == 0) {
+                continue;
+            }
+            double[] percentiles = Arrays.stream(snapshot.percentileValues())
+                    .mapToDouble(value -> round(value.value(TimeUnit.MILLISECONDS)))
+                    .toArray();
+            report.getOperations().put(operation.name,
+                    new LoadReport.OperationStats(snapshot.count(), percentiles[0], percentiles[1], percentiles[2]));
+        }
+        return report;
+    }
+
+    /**
+     * Bytes asignados hasta ahora por cada hilo del event loop del servidor. Son hilos de vida larga, así que
+     * ninguno desaparece a mitad de la corrida; no se cuentan el cliente ni los hilos del driver de MongoDB o de
+     * {@code boundedElastic}.
+     */
+    private static Map<Long, Long> serverAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocated = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(SERVER_THREAD_PREFIX)) {
+                long bytes = threads.getThreadAllocatedBytes(thread.getId());
+                if (bytes > 0) {
+                    allocated.put(thread.getId(), bytes);
+                }
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Bytes asignados por el event loop del servidor desde {@code before}; un hilo nuevo cuenta desde cero.
+     */
+    private static long allocatedSince(Map<Long, Long> before) {
+        return serverAllocatedBytes().entrySet().stream()
+                .mapToLong(thread -> thread.getValue() - before.getOrDefault(thread.getKey(), 0L))
+                .sum();
+    }
+
+    private User randomUser() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    private User newUser(int index) {
+        UserRole[] roles = UserRole.values();
+        return User.builder()
+                .institutionId("institution-" + (index % 20))
+                .firstName("Nombre" + index)
+                .lastName("Apellido" + index)
+                .documentType("DNI")
+                .documentNumber(String.format("%08d", index))
+                .phone("900000000")
+                .address("Av. Carga " + index)
+                .email("user" + index + "@load.test")
+                .userName("load-user-" + index)
+                .role(roles[index % roles.length])
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    private static final class Operation {
+
+        private final String name;
+
+        private final int weight;
+
+        private final Supplier<Mono<HttpStatusCode>> call;
+
+        private Operation(String name, int weight, Supplier<Mono<HttpStatusCode>> call) {
+            this.name = name;
+            this.weight = weight;
+            this.call = call;
+        }
+    }
+}